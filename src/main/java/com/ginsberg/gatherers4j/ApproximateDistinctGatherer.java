@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.BloomFilter;
+import com.ginsberg.gatherers4j.util.Hashing;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class ApproximateDistinctGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, BloomFilter, INPUT> {
+
+    private final Function<INPUT, @Nullable Object> mappingFunction;
+    private final Supplier<BloomFilter> filterSupplier;
+
+    ApproximateDistinctGatherer(
+            final Function<INPUT, @Nullable Object> mappingFunction,
+            final long expectedInsertions,
+            final double falsePositiveRate
+    ) {
+        this.mappingFunction = mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        this.filterSupplier = BloomFilter.supplier(expectedInsertions, falsePositiveRate);
+    }
+
+    @Override
+    public Supplier<BloomFilter> initializer() {
+        return filterSupplier;
+    }
+
+    @Override
+    public Integrator<BloomFilter, INPUT, INPUT> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            if (state.add(Hashing.hash(mappingFunction.apply(element)))) {
+                downstream.push(element);
+            }
+            return !downstream.isRejecting();
+        });
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class BatchingGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, BatchingGatherer.State<INPUT>, List<INPUT>> {
+
+    private static final int MINIMUM_PRESIZE = 16;
+
+    private final int maxSize;
+    private final long maxLingerMillis;
+    private @Nullable ToLongFunction<INPUT> weightFunction;
+    private long maxWeight = Long.MAX_VALUE;
+    private Clock clock = Clock.systemUTC();
+
+    BatchingGatherer(final int maxSize, final Duration maxLinger) {
+        mustNotBeNull(maxLinger, "Max linger must not be null");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        if (maxLinger.toMillis() < 1) {
+            throw new IllegalArgumentException("Minimum linger is 1ms");
+        }
+        this.maxSize = maxSize;
+        this.maxLingerMillis = maxLinger.toMillis();
+    }
+
+    /// Also limit each batch by weight, as measured by the `weightFunction`, such as the size of each
+    /// element in bytes. A batch is emitted before an element that would take it over `maxWeight` is added.
+    /// An element that weighs `maxWeight` or more on its own is emitted in a batch by itself.
+    ///
+    /// @param maxWeight The maximum total weight of a batch, must be positive
+    /// @param weightFunction A non-null function to weigh each element, which must not return a negative weight
+    public BatchingGatherer<INPUT> withMaxWeight(final long maxWeight, final ToLongFunction<INPUT> weightFunction) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive");
+        }
+        this.weightFunction = mustNotBeNull(weightFunction, "Weight function must not be null");
+        this.maxWeight = maxWeight;
+        return this;
+    }
+
+    /// Replace the default clock (UTC system clock) used to measure how long a batch has lingered. This
+    /// exists so that tests can control time and check when batches are emitted without waiting on the
+    /// system clock.
+    ///
+    /// @param clock A non-null Clock
+    public BatchingGatherer<INPUT> withClock(final Clock clock) {
+        this.clock = mustNotBeNull(clock, "Clock must not be null");
+        return this;
+    }
+
+    @Override
+    public Supplier<State<INPUT>> initializer() {
+        return () -> new State<>(maxSize);
+    }
+
+    @Override
+    public Integrator<State<INPUT>, INPUT, List<INPUT>> integrator() {
+        final ToLongFunction<INPUT> weigher = weightFunction;
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            final long weight = weigher == null ? 0 : weigh(weigher, element);
+            final long now = clock.millis();
+            if (!state.batch.isEmpty()) {
+                // A gatherer only runs when an element arrives, so linger is enforced on arrival
+                if (now - state.batchStarted >= maxLingerMillis || state.weight + weight > maxWeight) {
+                    state.flush(downstream);
+                }
+            }
+            if (state.batch.isEmpty()) {
+                state.batchStarted = now;
+            }
+            state.batch.add(element);
+            state.weight += weight;
+            if (state.batch.size() == maxSize || state.weight >= maxWeight) {
+                state.flush(downstream);
+            }
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BiConsumer<State<INPUT>, Downstream<? super List<INPUT>>> finisher() {
+        return (state, downstream) -> {
+            if (!state.batch.isEmpty() && !downstream.isRejecting()) {
+                state.flush(downstream);
+            }
+        };
+    }
+
+    private long weigh(final ToLongFunction<INPUT> weigher, final INPUT element) {
+        final long weight = weigher.applyAsLong(element);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative");
+        }
+        return weight;
+    }
+
+    public static class State<INPUT extends @Nullable Object> {
+        final int maxSize;
+        List<INPUT> batch;
+        long batchStarted;
+        long weight = 0;
+
+        State(final int maxSize) {
+            this.maxSize = maxSize;
+            this.batch = new ArrayList<>(Math.min(maxSize, MINIMUM_PRESIZE));
+        }
+
+        // The batch is handed off as-is, and the next one is sized to match it, which
+        // settles on full-sized batches under load without allocating them up front.
+        void flush(final Downstream<? super List<INPUT>> downstream) {
+            final List<INPUT> full = batch;
+            batch = new ArrayList<>(Math.min(maxSize, Math.max(full.size(), MINIMUM_PRESIZE)));
+            weight = 0;
+            downstream.push(Collections.unmodifiableList(full));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.SegmentedBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class BufferedShufflingGatherer<INPUT extends @Nullable Object> implements
+        Gatherer<INPUT, BufferedShufflingGatherer.State<INPUT>, INPUT> {
+
+    private final int bufferSize;
+    private final RandomGenerator randomGenerator;
+
+    BufferedShufflingGatherer(final int bufferSize, final RandomGenerator randomGenerator) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.randomGenerator = mustNotBeNull(randomGenerator, "RandomGenerator must not be null");
+    }
+
+    @Override
+    public Supplier<State<INPUT>> initializer() {
+        return State::new;
+    }
+
+    @Override
+    public Integrator<State<INPUT>, INPUT, INPUT> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            if (state.buffer.size() < bufferSize) {
+                state.buffer.add(element);
+                return !downstream.isRejecting();
+            }
+            // Take the place of a random element, and emit the one it evicted
+            return downstream.push(state.buffer.set(randomGenerator.nextInt(bufferSize), element));
+        });
+    }
+
+    @Override
+    public BiConsumer<State<INPUT>, Downstream<? super INPUT>> finisher() {
+        return (state, downstream) -> {
+            while (!state.buffer.isEmpty() && !downstream.isRejecting()) {
+                downstream.push(state.buffer.swapRemove(randomGenerator.nextInt(state.buffer.size())));
+            }
+        };
+    }
+
+    public static class State<INPUT> {
+        final SegmentedBuffer<INPUT> buffer = new SegmentedBuffer<>();
+    }
+}
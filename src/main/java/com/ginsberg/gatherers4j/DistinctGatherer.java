@@ -16,12 +16,26 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.util.Hashing;
+import com.ginsberg.gatherers4j.util.LongSet;
+import com.ginsberg.gatherers4j.util.PersistentLongHashSet;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Gatherer;
 
 import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
@@ -30,27 +44,338 @@ public class DistinctGatherer<INPUT extends @Nullable Object>
         implements Gatherer<INPUT, DistinctGatherer.State, INPUT> {
 
     private final Function<INPUT, Object> mappingFunction;
+    private int maxEntries = Integer.MAX_VALUE;
+    private long ttl = Long.MAX_VALUE;
+    private @Nullable ToLongFunction<INPUT> timestampFunction;
+    private Clock clock = Clock.systemUTC();
+    private @Nullable Path persistentPath;
+    private Parallelism parallelism = Parallelism.Sequential;
 
     DistinctGatherer(final Function<INPUT, @Nullable Object> mappingFunction) {
         this.mappingFunction = mustNotBeNull(mappingFunction, "Mapping function must not be null");
     }
 
+    /// Remember at most `maxEntries` keys. When a new key would exceed this, the least recently
+    /// seen key is forgotten, so a later occurrence of it will be emitted again.
+    ///
+    /// @param maxEntries The maximum number of keys to remember, must be positive
+    public DistinctGatherer<INPUT> withMaxEntries(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    /// Forget a key once `ttl` has passed since it was last seen, measured by the clock
+    /// (see `withClock()`, which defaults to the UTC system clock).
+    ///
+    /// @param ttl A non-null, positive `Duration`
+    public DistinctGatherer<INPUT> withTtl(final Duration ttl) {
+        this.ttl = validTtl(ttl);
+        this.timestampFunction = null;
+        return this;
+    }
+
+    /// Forget a key once `ttl` has passed since it was last seen, measured by the timestamps
+    /// (in milliseconds) of the elements themselves. Time only moves forward, so an element
+    /// with an earlier timestamp than one already seen does not expire anything.
+    ///
+    /// @param ttl               A non-null, positive `Duration`
+    /// @param timestampFunction A non-null function to extract a timestamp, in milliseconds, from each element
+    public DistinctGatherer<INPUT> withTtl(final Duration ttl, final ToLongFunction<INPUT> timestampFunction) {
+        this.ttl = validTtl(ttl);
+        this.timestampFunction = mustNotBeNull(timestampFunction, "Timestamp function must not be null");
+        return this;
+    }
+
+    /// Replace the default clock (UTC system clock) used to measure time when a ttl is set without a timestamp function.
+    ///
+    /// @param clock A non-null Clock
+    public DistinctGatherer<INPUT> withClock(final Clock clock) {
+        this.clock = mustNotBeNull(clock, "Clock must not be null");
+        return this;
+    }
+
+    /// Remember keys in a file at `path` rather than in memory, so that duplicates are still dropped
+    /// when the stream is run again, for example after a restart. The file is created if it does not exist,
+    /// and is memory-mapped rather than read, so opening it does not depend on how many keys it holds.
+    ///
+    /// Keys are stored as 64-bit hashes (see `Hashing.hash()`), not as the keys themselves, and a distinct key whose
+    /// hash collides with one already stored is dropped, in this run and every later one. Boxed primitives, `String`,
+    /// `UUID`, and `Enum` keys (and `List`s of them) are hashed on their entire contents and by type, so `null`, `5`,
+    /// and `5L` are all different keys, and two `Long` keys never collide. For the others, the chance of any
+    /// collision at all is about 3% after a billion keys, and 0.03% after a hundred million. Other keys are hashed by
+    /// `hashCode()`, which only has 32 bits and is not the same from one run to the next for every type, so map keys
+    /// to one of these types first.
+    /// This cannot be combined with `withMaxEntries()` or `withTtl()`.
+    ///
+    /// @param path A non-null path to a file, which must not be in use by another stream or process
+    public DistinctGatherer<INPUT> persistentAt(final Path path) {
+        this.persistentPath = mustNotBeNull(path, "Path must not be null");
+        return this;
+    }
+
+    /// Allow this gatherer to run in parallel when used in a parallel stream, with the same result as a
+    /// sequential stream. Each split of the stream keeps the first occurrence of each key it sees, and
+    /// when splits are combined, keys from the right split that were already seen in the left one are dropped.
+    ///
+    /// Note: No elements are emitted until the end of the stream, even in a sequential stream,
+    /// so this will not work on infinite streams. By default, this gatherer runs sequentially
+    /// and emits each distinct element as soon as it is seen.
+    public DistinctGatherer<INPUT> withParallelSupport() {
+        this.parallelism = Parallelism.Ordered;
+        return this;
+    }
+
+    /// Allow this gatherer to run in parallel when used in a parallel stream, where it does not matter
+    /// which occurrence of each key is emitted. Every split shares a single concurrent set of keys, and
+    /// emits an element as soon as its key is added to that set, so nothing is buffered. Exactly one element
+    /// per key is emitted, but it may not be the first one in encounter order.
+    ///
+    /// Note: Each call to `initializer()` creates a new set, shared by every state its supplier creates, so each
+    /// evaluation of a stream starts empty, even when this gatherer is reused. Sharing relies on the JDK creating
+    /// every split's state for an evaluation from the same supplier, which it does, but the `Gatherer` contract
+    /// does not promise. States with different sets have their keys merged when combined, but any key seen by
+    /// more than one of them will already have been emitted by each.
+    public DistinctGatherer<INPUT> withUnorderedParallelSupport() {
+        this.parallelism = Parallelism.Unordered;
+        return this;
+    }
+
     @Override
     public Supplier<State> initializer() {
-        return State::new;
+        final Path path = persistentPath;
+        final boolean bounded = maxEntries != Integer.MAX_VALUE || ttl != Long.MAX_VALUE;
+        if (path != null && bounded) {
+            throw new IllegalStateException("persistentAt() cannot be combined with withMaxEntries() or withTtl()");
+        }
+        if (parallelism != Parallelism.Sequential && (path != null || bounded)) {
+            throw new IllegalStateException("Parallel support cannot be combined with withMaxEntries(), withTtl(), or persistentAt()");
+        }
+        if (path != null) {
+            return () -> new State(new PersistentLongHashSet(path));
+        }
+        return switch (parallelism) {
+            case Sequential -> bounded ? () -> new State(maxEntries, ttl) : State::new;
+            case Ordered -> () -> new State(new LinkedHashMap<>());
+            case Unordered -> {
+                // Created once per call, and shared by every split of the stream evaluated with it
+                final Set<Object> shared = ConcurrentHashMap.newKeySet();
+                yield () -> new State(shared);
+            }
+        };
     }
 
     @Override
     public Integrator<DistinctGatherer.State, INPUT, INPUT> integrator() {
+        if (parallelism == Parallelism.Ordered) {
+            return Integrator.ofGreedy((state, element, downstream) -> {
+                state.firstSeen().putIfAbsent(mappingFunction.apply(element), element);
+                return true;
+            });
+        }
+        if (parallelism == Parallelism.Unordered) {
+            return Integrator.ofGreedy((state, element, downstream) -> {
+                if (state.addShared(mappingFunction.apply(element))) {
+                    downstream.push(element);
+                }
+                return !downstream.isRejecting();
+            });
+        }
+        if (persistentPath != null) {
+            return Integrator.ofGreedy((state, element, downstream) -> {
+                if (state.addPersisted(mappingFunction.apply(element))) {
+                    downstream.push(element);
+                }
+                return !downstream.isRejecting();
+            });
+        }
+        if (maxEntries == Integer.MAX_VALUE && ttl == Long.MAX_VALUE) {
+            return Integrator.ofGreedy((state, element, downstream) -> {
+                if (state.knownObjects().add(mappingFunction.apply(element))) {
+                    downstream.push(element);
+                }
+                return !downstream.isRejecting();
+            });
+        }
+        final ToLongFunction<INPUT> timestamps = timestampFunction;
+        final Clock time = clock;
         return Integrator.ofGreedy((state, element, downstream) -> {
-            if (state.knownObjects.add(mappingFunction.apply(element))) {
+            final long now = state.ttl == Long.MAX_VALUE ? 0 : timestamps == null ? time.millis() : timestamps.applyAsLong(element);
+            if (state.addBounded(mappingFunction.apply(element), now)) {
                 downstream.push(element);
             }
             return !downstream.isRejecting();
         });
     }
 
+    @Override
+    public BinaryOperator<State> combiner() {
+        return switch (parallelism) {
+            case Sequential -> Gatherer.defaultCombiner();
+            case Unordered -> (left, right) -> {
+                if (left.shared() != right.shared()) {
+                    left.shared().addAll(right.shared());
+                }
+                return left;
+            };
+            case Ordered -> (left, right) -> {
+                for (final Map.Entry<@Nullable Object, @Nullable Object> entry : right.firstSeen().entrySet()) {
+                    left.firstSeen().putIfAbsent(entry.getKey(), entry.getValue());
+                }
+                return left;
+            };
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public BiConsumer<State, Downstream<? super INPUT>> finisher() {
+        return (state, downstream) -> {
+            try {
+                if (state.firstSeen != null) {
+                    for (final Iterator<@Nullable Object> elements = state.firstSeen.values().iterator();
+                         elements.hasNext() && !downstream.isRejecting(); ) {
+                        downstream.push((INPUT) elements.next());
+                    }
+                }
+            } finally {
+                state.close();
+            }
+        };
+    }
+
+    private static long validTtl(final Duration ttl) {
+        mustNotBeNull(ttl, "TTL must not be null");
+        if (ttl.toMillis() < 1) {
+            throw new IllegalArgumentException("Minimum TTL is 1ms");
+        }
+        return ttl.toMillis();
+    }
+
+    private enum Parallelism {
+        Sequential,
+        Ordered,
+        Unordered
+    }
+
+    // Each mode only allocates what it uses. When bounded, keys are kept in access order along with the time they
+    // were last seen. Seeing a key moves it to the end, so the least recently seen key is always at the front. That
+    // is the one to evict when over capacity, and also the first to expire, so both checks only ever look at the front.
     public static class State {
-        final Set<@Nullable Object> knownObjects = new HashSet<>();
+        private static final Object NULL_KEY = new Object();
+        final @Nullable Set<@Nullable Object> knownObjects;
+        final @Nullable LinkedHashMap<@Nullable Object, Long> lastSeen;
+        final int maxEntries;
+        final long ttl;
+        final @Nullable LongSet persisted;
+        final @Nullable Set<Object> shared;
+        final @Nullable LinkedHashMap<@Nullable Object, @Nullable Object> firstSeen;
+        long watermark = Long.MIN_VALUE;
+
+        // Sequential and unbounded
+        State() {
+            this(new HashSet<>(), null, Integer.MAX_VALUE, Long.MAX_VALUE, null, null, null);
+        }
+
+        // Sequential and bounded
+        State(final int maxEntries, final long ttl) {
+            this(null, new LinkedHashMap<>(16, 0.75f, true), maxEntries, ttl, null, null, null);
+        }
+
+        // Persistent
+        State(final LongSet persisted) {
+            this(null, null, Integer.MAX_VALUE, Long.MAX_VALUE, persisted, null, null);
+        }
+
+        // Unordered parallel
+        State(final Set<Object> shared) {
+            this(null, null, Integer.MAX_VALUE, Long.MAX_VALUE, null, shared, null);
+        }
+
+        // Ordered parallel
+        State(final LinkedHashMap<@Nullable Object, @Nullable Object> firstSeen) {
+            this(null, null, Integer.MAX_VALUE, Long.MAX_VALUE, null, null, firstSeen);
+        }
+
+        private State(
+                final @Nullable Set<@Nullable Object> knownObjects,
+                final @Nullable LinkedHashMap<@Nullable Object, Long> lastSeen,
+                final int maxEntries,
+                final long ttl,
+                final @Nullable LongSet persisted,
+                final @Nullable Set<Object> shared,
+                final @Nullable LinkedHashMap<@Nullable Object, @Nullable Object> firstSeen
+        ) {
+            this.knownObjects = knownObjects;
+            this.lastSeen = lastSeen;
+            this.maxEntries = maxEntries;
+            this.ttl = ttl;
+            this.persisted = persisted;
+            this.shared = shared;
+            this.firstSeen = firstSeen;
+        }
+
+        Set<@Nullable Object> knownObjects() {
+            return Objects.requireNonNull(knownObjects);
+        }
+
+        Set<Object> shared() {
+            return Objects.requireNonNull(shared);
+        }
+
+        LinkedHashMap<@Nullable Object, @Nullable Object> firstSeen() {
+            return Objects.requireNonNull(firstSeen);
+        }
+
+        boolean addShared(final @Nullable Object key) {
+            // Concurrent sets do not allow null, so it is swapped for a marker
+            return shared().add(key == null ? NULL_KEY : key);
+        }
+
+        boolean addPersisted(final @Nullable Object key) {
+            return Objects.requireNonNull(persisted).add(Hashing.hash(key));
+        }
+
+        void close() {
+            if (persisted != null) {
+                persisted.close();
+            }
+        }
+
+        boolean addBounded(final @Nullable Object key, final long timestamp) {
+            final LinkedHashMap<@Nullable Object, Long> lastSeen = Objects.requireNonNull(this.lastSeen);
+            if (timestamp > watermark) {
+                watermark = timestamp;
+                expire(lastSeen);
+            }
+            final Long previous = lastSeen.get(key);
+            lastSeen.put(key, previous == null ? timestamp : Math.max(previous, timestamp));
+            if (previous != null && !isExpired(previous)) {
+                return false;
+            }
+            if (lastSeen.size() > maxEntries) {
+                final Iterator<Map.Entry<@Nullable Object, Long>> eldest = lastSeen.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+            return true;
+        }
+
+        private void expire(final LinkedHashMap<@Nullable Object, Long> lastSeen) {
+            if (ttl == Long.MAX_VALUE) {
+                return;
+            }
+            final Iterator<Map.Entry<@Nullable Object, Long>> entries = lastSeen.entrySet().iterator();
+            while (entries.hasNext() && isExpired(entries.next().getValue())) {
+                entries.remove();
+            }
+        }
+
+        // Out of order timestamps can leave an expired key behind a newer one, so this is checked on lookup too.
+        private boolean isExpired(final long seen) {
+            return ttl != Long.MAX_VALUE && seen <= watermark - ttl;
+        }
     }
 }
@@ -17,14 +17,21 @@
 package com.ginsberg.gatherers4j;
 
 import com.ginsberg.gatherers4j.util.CircularBuffer;
+import com.ginsberg.gatherers4j.util.SegmentedBuffer;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
 
 public class DropLastGatherer<INPUT extends @Nullable Object> implements Gatherer<INPUT, DropLastGatherer.State<INPUT>, INPUT> {
 
     private final int count;
+    private boolean parallel = false;
 
     DropLastGatherer(final int count) {
         if (count <= 0) {
@@ -33,27 +40,86 @@ public class DropLastGatherer<INPUT extends @Nullable Object> implements Gathere
         this.count = count;
     }
 
+    /// Allow this gatherer to run in parallel when used in a parallel stream. Each split of the stream is
+    /// buffered separately, and once all splits have been combined, everything but the last `count`
+    /// elements is emitted in encounter order.
+    ///
+    /// Note: No elements are emitted until the end of the stream, even in a sequential stream, and the
+    /// entire stream is held in memory. By default, this gatherer runs sequentially, holds only `count`
+    /// elements, and emits each element as soon as it is known not to be one of the last `count`.
+    public DropLastGatherer<INPUT> withParallelSupport() {
+        parallel = true;
+        return this;
+    }
+
     @Override
     public Supplier<State<INPUT>> initializer() {
-        return () -> new State<>(count);
+        return () -> new State<>(count, parallel);
     }
 
     @Override
     public Integrator<State<INPUT>, INPUT, INPUT> integrator() {
+        if (parallel) {
+            return Integrator.ofGreedy((state, element, _) -> {
+                state.segments.getLast().add(element);
+                return true;
+            });
+        }
         return Integrator.ofGreedy((state, element, downstream) -> {
-            if (state.elements.size() == count) {
-                downstream.push(state.elements.removeFirst());
+            final CircularBuffer<INPUT> elements = state.elements();
+            if (elements.size() == count) {
+                downstream.push(elements.removeFirst());
             }
-            state.elements.add(element);
+            elements.add(element);
             return !downstream.isRejecting();
         });
     }
 
+    // Anything pushed by the integrator of a later split would come before anything pushed by the
+    // finisher, so in parallel every element is held until the finisher.
+    @Override
+    public BinaryOperator<State<INPUT>> combiner() {
+        if (!parallel) {
+            return Gatherer.defaultCombiner();
+        }
+        return (left, right) -> {
+            left.segments.addAll(right.segments);
+            return left;
+        };
+    }
+
+    @Override
+    public BiConsumer<State<INPUT>, Downstream<? super INPUT>> finisher() {
+        return (state, downstream) -> {
+            long remaining = -count;
+            for (final SegmentedBuffer<INPUT> segment : state.segments) {
+                remaining += segment.size();
+            }
+            for (int i = 0; i < state.segments.size() && remaining > 0 && !downstream.isRejecting(); i++) {
+                final SegmentedBuffer<INPUT> segment = state.segments.get(i);
+                for (int j = 0; j < segment.size() && remaining > 0 && !downstream.isRejecting(); j++) {
+                    downstream.push(segment.get(j));
+                    remaining--;
+                }
+            }
+        };
+    }
+
     public static class State<INPUT extends @Nullable Object> {
-        final CircularBuffer<INPUT> elements;
+        final @Nullable CircularBuffer<INPUT> elements;
+        final List<SegmentedBuffer<INPUT>> segments = new ArrayList<>();
+
+        State(final int capacity, final boolean parallel) {
+            if (parallel) {
+                this.elements = null;
+                segments.add(new SegmentedBuffer<>());
+            } else {
+                this.elements = new CircularBuffer<>(capacity);
+            }
+        }
 
-        State(int capacity) {
-            elements = new CircularBuffer<>(capacity);
+        CircularBuffer<INPUT> elements() {
+            return Objects.requireNonNull(elements);
         }
     }
 }
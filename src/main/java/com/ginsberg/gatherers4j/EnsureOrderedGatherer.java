@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.enums.Order;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class EnsureOrderedGatherer<INPUT>
+        implements Gatherer<INPUT, EnsureOrderedGatherer.State<INPUT>, INPUT> {
+
+    private final Order order;
+    private final Comparator<INPUT> comparator;
+
+    static <INPUT> EnsureOrderedGatherer<INPUT> usingComparator(
+            final Order order,
+            final Comparator<INPUT> comparator
+    ) {
+        return new EnsureOrderedGatherer<>(order, comparator);
+    }
+
+    static <INPUT extends Comparable<INPUT>> EnsureOrderedGatherer<INPUT> usingComparable(
+            final Order order
+    ) {
+        return new EnsureOrderedGatherer<>(order, Comparable::compareTo);
+    }
+
+    EnsureOrderedGatherer(
+            final Order order,
+            final Comparator<INPUT> comparator
+    ) {
+        this.order = mustNotBeNull(order, "Order must not be null");
+        this.comparator = mustNotBeNull(comparator, "Comparator must not be null");
+    }
+
+    @Override
+    public Supplier<EnsureOrderedGatherer.State<INPUT>> initializer() {
+        return State::new;
+    }
+
+    @Override
+    public Integrator<EnsureOrderedGatherer.State<INPUT>, INPUT, INPUT> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            if (state.first) {
+                state.first = false;
+            } else if (!order.allows(comparator.compare(element, state.previousElement))) {
+                throw new IllegalStateException("Elements not in proper order: " + order.name());
+            }
+            state.previousElement = element;
+            return downstream.push(element);
+        });
+    }
+
+    public static class State<INPUT> {
+        boolean first = true;
+        @Nullable
+        INPUT previousElement;
+    }
+}
@@ -18,13 +18,20 @@ package com.ginsberg.gatherers4j;
 
 import com.ginsberg.gatherers4j.dto.WithCount;
 import com.ginsberg.gatherers4j.enums.Frequency;
+import com.ginsberg.gatherers4j.util.ObjectLongHashMap;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
 
@@ -35,28 +42,69 @@ public class FrequencyGatherer<INPUT extends @Nullable Object>
         implements Gatherer<INPUT, FrequencyGatherer.State<INPUT>, WithCount<INPUT>> {
 
     private final Frequency order;
+    private int limit = Integer.MAX_VALUE;
+    private boolean concurrentCounting = false;
 
     FrequencyGatherer(final Frequency order) {
         this.order = mustNotBeNull(order, "Order must be specified");
     }
 
+    /// Only emit the `limit` elements that come first in the requested order, such as the ten most frequent.
+    /// Rather than sorting every distinct element, this keeps the best `limit` seen so far in a heap, which
+    /// takes O(n log limit) time and only allocates a result when an element makes it into the heap.
+    ///
+    /// @param limit The maximum number of elements to emit, must be positive
+    public FrequencyGatherer<INPUT> limit(final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /// In parallel streams, count every split into a single concurrent map shared by all of them, rather than
+    /// counting each split separately and merging the counts as splits are combined. This avoids merging large
+    /// maps when there are many splits and many distinct elements, at the cost of contention on frequent elements.
+    ///
+    /// Note: Each call to `initializer()` creates a new map, shared by every state its supplier creates, so each
+    /// evaluation of a stream starts counting from zero, even when this gatherer is reused. States with different
+    /// maps have their counts merged when combined, so no count is lost either way.
+    public FrequencyGatherer<INPUT> withConcurrentCounting() {
+        this.concurrentCounting = true;
+        return this;
+    }
+
     @Override
     public Supplier<State<INPUT>> initializer() {
-        return State::new;
+        if (!concurrentCounting) {
+            return State::new;
+        }
+        // Created once per call, and shared by every split of the stream evaluated with it
+        final ConcurrentHashMap<Object, LongAdder> shared = new ConcurrentHashMap<>();
+        return () -> new State<>(shared);
     }
 
     @Override
     public Integrator<State<INPUT>, INPUT, WithCount<INPUT>> integrator() {
         return Integrator.ofGreedy((state, element, downstream) -> {
-            state.counts.merge(element, 1L, Long::sum);
+            state.add(element);
             return !downstream.isRejecting();
         });
     }
 
     @Override
     public BinaryOperator<State<INPUT>> combiner() {
+        if (concurrentCounting) {
+            return (state1, state2) -> {
+                // Splits from the same supplier have already counted into the same map
+                if (state1.shared() != state2.shared()) {
+                    state2.shared().forEach((key, adder) -> state1.adder(key).add(adder.sum()));
+                }
+                return state1;
+            };
+        }
         return (state1, state2) -> {
-            state2.counts.forEach((key, value) -> state1.counts.merge(key, value, Long::sum));
+            state2.counts().forEach(state1.counts()::add);
             return state1;
         };
     }
@@ -64,23 +112,107 @@ public class FrequencyGatherer<INPUT extends @Nullable Object>
     @Override
     public BiConsumer<State<INPUT>, Downstream<? super WithCount<INPUT>>> finisher() {
         return (inputState, downstream) -> {
-            var counts = inputState.counts
-                    .entrySet()
-                    .stream().map(it -> new WithCount<>(it.getKey(), it.getValue()))
-                    .sorted(comparator());
-            pushAll(counts, downstream);
+            final List<WithCount<INPUT>> results = limit < inputState.size()
+                    ? selectFirst(inputState)
+                    : sortAll(inputState);
+            pushAll(results, downstream);
         };
     }
 
+    private List<WithCount<INPUT>> sortAll(final State<INPUT> state) {
+        final List<WithCount<INPUT>> results = new ArrayList<>(state.size());
+        state.forEach((value, count) -> results.add(new WithCount<>(value, count)));
+        results.sort(comparator());
+        return results;
+    }
+
+    // The heap is ordered so that its head is the worst of the elements kept, and is replaced whenever
+    // a better one comes along. Draining it afterward gives the kept elements from worst to best.
+    private List<WithCount<INPUT>> selectFirst(final State<INPUT> state) {
+        final boolean descending = order == Frequency.Descending;
+        final PriorityQueue<WithCount<INPUT>> heap = new PriorityQueue<>(limit, comparator().reversed());
+        state.forEach((value, count) -> {
+            if (heap.size() < limit) {
+                heap.add(new WithCount<>(value, count));
+            } else {
+                final long worst = heap.element().count();
+                if (descending ? count > worst : count < worst) {
+                    heap.poll();
+                    heap.add(new WithCount<>(value, count));
+                }
+            }
+        });
+        final List<WithCount<INPUT>> results = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            results.add(heap.poll());
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
     private Comparator<WithCount<INPUT>> comparator() {
         if (order == Frequency.Descending) {
-            return (o1, o2) -> (int) (o2.count() - o1.count());
+            return (o1, o2) -> Long.compare(o2.count(), o1.count());
         } else {
-            return (o1, o2) -> (int) (o1.count() - o2.count());
+            return (o1, o2) -> Long.compare(o1.count(), o2.count());
         }
     }
 
-    public static class State<INPUT> {
-        final Map<INPUT, Long> counts = new HashMap<>();
+    public static class State<INPUT extends @Nullable Object> {
+        // ConcurrentHashMap does not allow null keys
+        private static final Object NULL_KEY = new Object();
+
+        // Only one of these is allocated, depending on whether counting is concurrent
+        final @Nullable ObjectLongHashMap<INPUT> counts;
+        final @Nullable ConcurrentHashMap<Object, LongAdder> shared;
+
+        State() {
+            this.counts = new ObjectLongHashMap<>();
+            this.shared = null;
+        }
+
+        State(final ConcurrentHashMap<Object, LongAdder> shared) {
+            this.counts = null;
+            this.shared = shared;
+        }
+
+        ObjectLongHashMap<INPUT> counts() {
+            return Objects.requireNonNull(counts);
+        }
+
+        ConcurrentHashMap<Object, LongAdder> shared() {
+            return Objects.requireNonNull(shared);
+        }
+
+        void add(final INPUT element) {
+            final ObjectLongHashMap<INPUT> map = counts;
+            if (map != null) {
+                map.add(element, 1);
+            } else {
+                adder(element == null ? NULL_KEY : element).increment();
+            }
+        }
+
+        LongAdder adder(final Object key) {
+            final ConcurrentHashMap<Object, LongAdder> map = shared();
+            // Only take the slower path that may lock when this is the first occurrence
+            final LongAdder adder = map.get(key);
+            return adder != null ? adder : map.computeIfAbsent(key, it -> new LongAdder());
+        }
+
+        int size() {
+            final ObjectLongHashMap<INPUT> map = counts;
+            return map != null ? map.size() : shared().size();
+        }
+
+        @SuppressWarnings("unchecked")
+        void forEach(final ObjLongConsumer<? super INPUT> action) {
+            final ObjectLongHashMap<INPUT> map = counts;
+            if (map != null) {
+                map.forEach(action);
+            } else {
+                shared().forEach((key, adder) -> action.accept(key == NULL_KEY ? null : (INPUT) key, adder.sum()));
+            }
+        }
     }
 }
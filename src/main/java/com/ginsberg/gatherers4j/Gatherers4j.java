@@ -23,6 +23,9 @@ import com.ginsberg.gatherers4j.enums.Frequency;
 import com.ginsberg.gatherers4j.enums.Order;
 import com.ginsberg.gatherers4j.enums.Rotate;
 import com.ginsberg.gatherers4j.enums.Size;
+import com.ginsberg.gatherers4j.util.DoubleCircularBuffer;
+import com.ginsberg.gatherers4j.util.IntCircularBuffer;
+import com.ginsberg.gatherers4j.util.LongCircularBuffer;
 import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
@@ -36,6 +39,9 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.random.RandomGenerator;
 import java.util.stream.Gatherer;
 import java.util.stream.Stream;
@@ -51,6 +57,20 @@ public abstract class Gatherers4j {
         // No
     }
 
+    /// Group elements of the input stream into batches, emitting a batch once it holds `maxSize` elements,
+    /// or once `maxLinger` has passed since its first element was added, whichever comes first. Because a
+    /// gatherer only runs when elements arrive, a lingering batch is emitted when the next element arrives,
+    /// or when the input stream ends. See `BatchingGatherer.withMaxWeight(long, ToLongFunction)` for limiting
+    /// batches by weight as well.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param maxSize The maximum number of elements in a batch, must be positive
+    /// @param maxLinger A non-null, positive `Duration` to hold a partial batch for
+    /// @return A non-null `BatchingGatherer`
+    public static <INPUT extends @Nullable Object> BatchingGatherer<INPUT> batch(final int maxSize, final Duration maxLinger) {
+        return new BatchingGatherer<>(maxSize, maxLinger);
+    }
+
     /// Cross every element of the input stream with every element of the given `Iterable`, emitting them
     /// to the output stream as a `Pair<INPUT, CROSS>`.
     ///
@@ -146,17 +166,82 @@ public abstract class Gatherers4j {
         return new DedupeConsecutiveGatherer<>(mappingFunction);
     }
 
+    /// Filter a stream such that it only contains distinct elements, using a Bloom filter rather than
+    /// remembering every element. Memory is fixed up front by `expectedInsertions` and `falsePositiveRate`,
+    /// and in exchange, roughly `falsePositiveRate` of distinct elements will be wrongly dropped as duplicates
+    /// (while no duplicate is ever emitted). That rate only holds for elements hashed to 64 bits: boxed primitives,
+    /// `CharSequence`, `UUID`, `Enum`, and `List` of those. Other types are hashed by `hashCode()`, and distinct
+    /// elements with equal hash codes are always dropped, so over hundreds of millions of them the real rate will be
+    /// higher. Use `distinctApproxBy()` to map those to one of these types.
+    ///
+    /// @param expectedInsertions The number of distinct elements expected, must be positive
+    /// @param falsePositiveRate  The rate at which distinct elements may be wrongly dropped, greater than 0 and less than 1
+    /// @param <INPUT>            Type of elements in both the input and output streams
+    /// @return A non-null `ApproximateDistinctGatherer`
+    public static <INPUT extends @Nullable Object> ApproximateDistinctGatherer<INPUT> distinctApprox(
+            final long expectedInsertions,
+            final double falsePositiveRate
+    ) {
+        return new ApproximateDistinctGatherer<>(it -> it, expectedInsertions, falsePositiveRate);
+    }
+
+    /// Filter a stream such that it only contains distinct elements measured by the given `function`, using a
+    /// Bloom filter rather than remembering every key. Memory is fixed up front by `expectedInsertions` and
+    /// `falsePositiveRate`, and in exchange, roughly `falsePositiveRate` of distinct elements will be wrongly
+    /// dropped as duplicates (while no duplicate is ever emitted). That rate only holds for keys hashed to 64 bits:
+    /// boxed primitives, `CharSequence`, `UUID`, `Enum`, and `List` of those. Other keys are hashed by `hashCode()`,
+    /// and distinct keys with equal hash codes are always dropped, so over hundreds of millions of them the real rate
+    /// will be higher.
+    ///
+    /// @param mappingFunction    A non-null mapping function, the results of which will be used to check for distinct elements
+    /// @param expectedInsertions The number of distinct keys expected, must be positive
+    /// @param falsePositiveRate  The rate at which distinct elements may be wrongly dropped, greater than 0 and less than 1
+    /// @param <INPUT>            Type of elements in both the input and output streams
+    /// @return A non-null `ApproximateDistinctGatherer`
+    public static <INPUT extends @Nullable Object> ApproximateDistinctGatherer<INPUT> distinctApproxBy(
+            final Function<INPUT, @Nullable Object> mappingFunction,
+            final long expectedInsertions,
+            final double falsePositiveRate
+    ) {
+        return new ApproximateDistinctGatherer<>(mappingFunction, expectedInsertions, falsePositiveRate);
+    }
+
     /// Filter a stream such that it only contains distinct elements measured by the given `function`.
     ///
     /// @param mappingFunction A non-null mapping function, the results of which will be used to check for distinct elements
     /// @param <INPUT>         Type of elements in both the input and output streams
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> distinctBy(
+    /// @return A non-null `DistinctGatherer`
+    public static <INPUT extends @Nullable Object> DistinctGatherer<INPUT> distinctBy(
             final Function<INPUT, @Nullable Object> mappingFunction
     ) {
         return new DistinctGatherer<>(mappingFunction);
     }
 
+    /// Filter a stream such that it only contains distinct elements measured by the given `int` mapping function.
+    /// Keys are kept in a primitive hash set, so they are not boxed.
+    ///
+    /// @param mappingFunction A non-null mapping function, the results of which will be used to check for distinct elements
+    /// @param <INPUT>         Type of elements in both the input and output streams
+    /// @return A non-null `PrimitiveDistinctGatherer`
+    public static <INPUT extends @Nullable Object> PrimitiveDistinctGatherer<INPUT> distinctByInt(
+            final ToIntFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveDistinctGatherer<>(mappingFunction::applyAsInt);
+    }
+
+    /// Filter a stream such that it only contains distinct elements measured by the given `long` mapping function.
+    /// Keys are kept in a primitive hash set, so they are not boxed.
+    ///
+    /// @param mappingFunction A non-null mapping function, the results of which will be used to check for distinct elements
+    /// @param <INPUT>         Type of elements in both the input and output streams
+    /// @return A non-null `PrimitiveDistinctGatherer`
+    public static <INPUT extends @Nullable Object> PrimitiveDistinctGatherer<INPUT> distinctByLong(
+            final ToLongFunction<INPUT> mappingFunction
+    ) {
+        return new PrimitiveDistinctGatherer<>(mappingFunction);
+    }
+
     /// Drop every nth element of the stream.
     ///
     /// @param count   The number of the elements to drop, must be at least 2
@@ -173,34 +258,92 @@ public abstract class Gatherers4j {
     ///
     /// @param count   A positive number of elements to drop from the end of the stream
     /// @param <INPUT> Type of elements in both the input and output streams
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> dropLast(final int count) {
+    /// @return A non-null `DropLastGatherer`
+    public static <INPUT extends @Nullable Object> DropLastGatherer<INPUT> dropLast(final int count) {
         return new DropLastGatherer<>(count);
     }
 
+    /// Keep all values except the last `count` values of the stream, after mapping each element to a `double` with
+    /// the `mappingFunction`. Values are emitted in `double[]` blocks of up to 1,024 values as they become available.
+    ///
+    /// @param count A positive number of values to drop from the end of the stream
+    /// @param mappingFunction A non-null function to map each element to a `double`
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, double[]> dropLastAsDoubles(
+            final int count,
+            final ToDoubleFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveDropLastGatherer<>(
+                count,
+                DoubleCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsDouble(element))
+        );
+    }
+
+    /// Keep all values except the last `count` values of the stream, after mapping each element to a `int` with
+    /// the `mappingFunction`. Values are emitted in `int[]` blocks of up to 1,024 values as they become available.
+    ///
+    /// @param count A positive number of values to drop from the end of the stream
+    /// @param mappingFunction A non-null function to map each element to a `int`
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, int[]> dropLastAsInts(
+            final int count,
+            final ToIntFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveDropLastGatherer<>(
+                count,
+                IntCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsInt(element))
+        );
+    }
+
+    /// Keep all values except the last `count` values of the stream, after mapping each element to a `long` with
+    /// the `mappingFunction`. Values are emitted in `long[]` blocks of up to 1,024 values as they become available.
+    ///
+    /// @param count A positive number of values to drop from the end of the stream
+    /// @param mappingFunction A non-null function to map each element to a `long`
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, long[]> dropLastAsLongs(
+            final int count,
+            final ToLongFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveDropLastGatherer<>(
+                count,
+                LongCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsLong(element))
+        );
+    }
+
     /// Ensure that the `Comparable` elements in the input stream are in the given `Order`, and fail exceptionally if they are not.
+    /// Elements are emitted as soon as they are checked, and an `IllegalStateException` is thrown at the first element out of order.
     ///
     /// @param <INPUT> Type of elements in the input stream
     /// @param order The non-null order the stream must be in.
     /// @return A non-null Gatherer
     public static <INPUT extends Comparable<INPUT>> Gatherer<INPUT, ?, INPUT> ensureOrdered(final Order order) {
-        final Gatherer<INPUT, ?, List<INPUT>> generic = GroupChangingGatherer.usingComparable(order);
-        return generic.andThen(new FlattenSingleOrFail<>("Elements not in proper order: " + order.name()));
+        return EnsureOrderedGatherer.usingComparable(order);
     }
 
     /// Ensure that the elements in the input stream are in the given `Order` as measured by the given `Comparator`, and fail exceptionally if they are not.
+    /// Elements are emitted as soon as they are checked, and an `IllegalStateException` is thrown at the first element out of order.
     ///
     /// @param <INPUT> Type of elements in the input stream
     /// @param order The non-null order the stream must be in.
     /// @param comparator The non-null comparator used to compare stream elements
     /// @return A non-null Gatherer
     public static <INPUT> Gatherer<INPUT, ?, INPUT> ensureOrderedBy(final Order order, final Comparator<INPUT> comparator) {
-        return GroupChangingGatherer.usingComparator(order, comparator)
-                .andThen(new FlattenSingleOrFail<>("Elements not in proper order: " + order.name()));
+        return EnsureOrderedGatherer.usingComparator(order, comparator);
     }
 
     /// Ensure the input stream's meets the given `size` criteria, and emit all elements if so.
-    /// If not, throw an `IllegalStateException`.
+    /// If not, throw an `IllegalStateException`. For `GreaterThan` and `GreaterThanOrEqualTo`, elements
+    /// are emitted as soon as enough have been seen to meet the criteria, rather than once the stream ends.
     ///
     /// @param size The Size to measure the stream length against
     /// @param length    Number to compare stream length against
@@ -361,6 +504,20 @@ public abstract class Gatherers4j {
         return GroupChangingGatherer.usingComparator(order, comparator);
     }
 
+    /// Estimate the `k` most frequent elements in the input stream in a fixed amount of memory, using the
+    /// Space-Saving algorithm. Each estimated count is at most `epsilon` times the number of elements
+    /// seen above the true count, and never below it. Results are emitted as an unmodifiable `List` of
+    /// `HeavyHitter` objects, most frequent first, once the stream ends or periodically if
+    /// `withSnapshotEvery()` is called on the returned `HeavyHittersGatherer`.
+    ///
+    /// @param k       The positive number of most frequent elements to report
+    /// @param epsilon The largest error in each count, as a fraction of the number of elements, greater than 0 and less than 1
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `HeavyHittersGatherer`
+    public static <INPUT extends @Nullable Object> HeavyHittersGatherer<INPUT> heavyHitters(final int k, final double epsilon) {
+        return new HeavyHittersGatherer<>(k, epsilon);
+    }
+
     /// Creates a stream of alternating objects from the input stream and the argument iterable
     ///
     /// @param other   A non-null Iterable to interleave
@@ -418,6 +575,44 @@ public abstract class Gatherers4j {
         return SimpleIndexingGatherers.mapIndexed(mappingFunction);
     }
 
+    /// Create a stream that represents the number of distinct elements over the previous `windowSize` elements.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param windowSize How large the lookback window is, must be at least 2
+    /// @return A non-null `MovingDistinctCountGatherer`
+    public static <INPUT extends @Nullable Object> MovingDistinctCountGatherer<INPUT> movingDistinctCount(final int windowSize) {
+        return new MovingDistinctCountGatherer<>(windowSize, it -> it);
+    }
+
+    /// Create a stream that represents the number of distinct elements over the previous `windowSize` elements,
+    /// as measured by the given `mappingFunction`.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param windowSize How large the lookback window is, must be at least 2
+    /// @param mappingFunction A non-null mapping function, the results of which will be used to check for distinct elements
+    /// @return A non-null `MovingDistinctCountGatherer`
+    public static <INPUT extends @Nullable Object> MovingDistinctCountGatherer<INPUT> movingDistinctCountBy(
+            final int windowSize,
+            final Function<INPUT, @Nullable Object> mappingFunction
+    ) {
+        return new MovingDistinctCountGatherer<>(windowSize, mappingFunction);
+    }
+
+    /// Create a stream of the most frequent elements over the previous `windowSize` elements, and how often
+    /// each occurs. Each emitted `List` holds up to `limit` elements wrapped in `WithCount` objects, most frequent
+    /// first, and is unmodifiable.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param windowSize How large the lookback window is, must be at least 2
+    /// @param limit The maximum number of elements in each emitted `List`, must be positive
+    /// @return A non-null `MovingFrequencyGatherer`
+    public static <INPUT extends @Nullable Object> MovingFrequencyGatherer<INPUT> movingFrequency(
+            final int windowSize,
+            final int limit
+    ) {
+        return new MovingFrequencyGatherer<>(windowSize, limit);
+    }
+
     /// Create a stream that represents the moving maximum value over the previous `windowSize` elements.
     ///
     /// @param <INPUT> Type of elements in the input and output stream; must implement `Comparable`
@@ -494,6 +689,17 @@ public abstract class Gatherers4j {
         return MinMaxGatherer.movingUsingComparator(windowSize, true, comparator);
     }
 
+    /// Create a stream of the most frequent element (the mode) over the previous `windowSize` elements, wrapped in
+    /// a `WithCount` object along with how often it occurs. When several elements are equally frequent, the one that
+    /// has been at that frequency the longest is emitted.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param windowSize How large the lookback window is, must be at least 2
+    /// @return A non-null `MovingModeGatherer`
+    public static <INPUT extends @Nullable Object> MovingModeGatherer<INPUT> movingMode(final int windowSize) {
+        return new MovingModeGatherer<>(windowSize);
+    }
+
     /// Create a Stream that represents the moving product of a `Stream<BigDecimal>` looking
     /// back `windowSize` number of elements.
     ///
@@ -545,12 +751,14 @@ public abstract class Gatherers4j {
     /// Emit elements in the input stream ordered by frequency in the direction specified. Elements are emitted wrapped
     /// in `WithCount<INPUT>` objects that carry the element and the number of occurrences.
     ///
-    /// Note: This consumes the entire stream and holds it in memory, so it will not work on infinite
-    /// streams and may cause memory pressure on very large streams.
+    /// Note: This consumes the entire stream and holds a count for each distinct element in memory, so it will not
+    /// work on infinite streams. Use `limit(k)` on the returned `FrequencyGatherer` to emit only the first `k` elements
+    /// in the requested order without sorting every distinct element.
     ///
+    /// @param order  The order in which to emit elements, either `Ascending` or `Descending` by frequency
     /// @param <INPUT> Type of elements in the input stream
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, WithCount<INPUT>> orderByFrequency(final Frequency order) {
+    /// @return A non-null `FrequencyGatherer`
+    public static <INPUT extends @Nullable Object> FrequencyGatherer<INPUT> orderByFrequency(final Frequency order) {
         return new FrequencyGatherer<>(order);
     }
 
@@ -566,31 +774,33 @@ public abstract class Gatherers4j {
 
     /// Repeatedly emit the input stream to the output stream a given number of times.
     /// Note: This implementation consumes the entire input stream into memory, so it must be used on finite streams.
+    /// To hold very large streams, make it `spillable()`.
     ///
     /// @param <INPUT> Type of elements in the input and output stream
     /// @param repeats Number of repeats, must be greater than 1
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> repeat(final int repeats) {
+    /// @return A non-null `RepeatingGatherer`
+    public static <INPUT extends @Nullable Object> RepeatingGatherer<INPUT> repeat(final int repeats) {
         return RepeatingGatherer.ofFinite(repeats);
     }
 
     /// Repeatedly emit the input stream to the output stream infinitely.
     /// Note: This implementation consumes the entire input stream into memory, so it must be used on finite streams.
+    /// To hold very large streams, make it `spillable()`.
     ///
     /// @param <INPUT> Type of elements in the input and output stream
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> repeatInfinitely() {
+    /// @return A non-null `RepeatingGatherer`
+    public static <INPUT extends @Nullable Object> RepeatingGatherer<INPUT> repeatInfinitely() {
         return RepeatingGatherer.ofInfinite();
     }
 
     /// Reverse the order of the input Stream.
     ///
     /// Note: This consumes the entire stream and holds it in memory, so it will not work on infinite
-    /// streams and may cause memory pressure on very large streams.
+    /// streams and may cause memory pressure on very large streams, unless it is made `spillable()`.
     ///
     /// @param <INPUT> Type of elements in the input stream
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> reverse() {
+    /// @return A non-null `ReversingGatherer`
+    public static <INPUT extends @Nullable Object> ReversingGatherer<INPUT> reverse() {
         return new ReversingGatherer<>();
     }
 
@@ -599,8 +809,8 @@ public abstract class Gatherers4j {
     /// @param <INPUT> Type of elements in the input and output stream
     /// @param direction Which direction to rotate the stream in
     /// @param distance Distance to rotate elements
-    /// @return A non-null Gatherer
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> rotate(final Rotate direction, final int distance) {
+    /// @return A non-null `RotateGatherer`
+    public static <INPUT extends @Nullable Object> RotateGatherer<INPUT> rotate(final Rotate direction, final int distance) {
         return new RotateGatherer<>(direction, distance);
     }
 
@@ -798,29 +1008,94 @@ public abstract class Gatherers4j {
         return new AccumulatingGatherer<>(true, initialValue, scanFunction);
     }
 
+    /// Group elements of the input stream into sessions per key, as identified by the `keyFunction`. A session
+    /// stays open while elements for its key keep arriving within `gap` of each other, and is emitted once the
+    /// watermark passes its last element plus the `gap`. Timestamps are interpreted as milliseconds. Sessions are
+    /// emitted in the order they expire. See `SessionWindowGatherer.withWatermarkLag(Duration)` for tolerating
+    /// out-of-order elements.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param <KEY> Type of key that sessions are grouped by
+    /// @param keyFunction A non-null function to extract the session key from each element
+    /// @param timestampFunction A non-null function to extract a timestamp, in milliseconds, from each element
+    /// @param gap A non-null, positive `Duration` of inactivity after which a session expires
+    /// @return A non-null `SessionWindowGatherer`
+    public static <INPUT extends @Nullable Object, KEY extends @Nullable Object> SessionWindowGatherer<INPUT, KEY> sessionWindowBy(
+            final Function<INPUT, KEY> keyFunction,
+            final ToLongFunction<INPUT> timestampFunction,
+            final Duration gap
+    ) {
+        return new SessionWindowGatherer<>(keyFunction, timestampFunction, gap);
+    }
+
     /// Shuffle the input stream into a random order.
     ///
     /// Note: This consumes the entire stream and holds it in memory, so it will not work on infinite
-    /// streams and may cause memory pressure on very large streams.
+    /// streams and may cause memory pressure on very large streams, unless it is given `withExternalBuckets()`.
     ///
     /// @param <INPUT> Type of elements in the input stream
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> shuffle() {
+    /// @return A non-null `ShufflingGatherer`
+    public static <INPUT extends @Nullable Object> ShufflingGatherer<INPUT> shuffle() {
         return new ShufflingGatherer<>(RandomGenerator.getDefault());
     }
 
     /// Shuffle the input stream into a random order.
     ///
     /// Note: This consumes the entire stream and holds it in memory, so it will not work on infinite
-    /// streams and may cause memory pressure on very large streams.
+    /// streams and may cause memory pressure on very large streams, unless it is given `withExternalBuckets()`.
     ///
     /// @param randomGenerator A non-null `RandomGenerator` to use as a random source for the shuffle
     /// @param <INPUT>         Type of elements in the input stream
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, INPUT> shuffle(final RandomGenerator randomGenerator) {
+    /// @return A non-null `ShufflingGatherer`
+    public static <INPUT extends @Nullable Object> ShufflingGatherer<INPUT> shuffle(final RandomGenerator randomGenerator) {
         return new ShufflingGatherer<>(randomGenerator);
     }
 
+    /// Shuffle the input stream into an approximately random order, holding no more than `bufferSize` elements at once.
+    ///
+    /// Once the buffer fills, each new element takes the place of a randomly chosen element in the buffer,
+    /// and the evicted element is emitted. When the input stream ends, the buffer is emitted in random order.
+    /// Elements can only move earlier in the stream by up to `bufferSize` positions, so the larger the buffer,
+    /// the closer the result is to a full shuffle. This works on infinite streams.
+    ///
+    /// @param bufferSize Maximum number of elements to hold, must be positive
+    /// @param <INPUT>    Type of elements in the input stream
+    /// @return A non-null `BufferedShufflingGatherer`
+    public static <INPUT extends @Nullable Object> BufferedShufflingGatherer<INPUT> shuffle(final int bufferSize) {
+        return new BufferedShufflingGatherer<>(bufferSize, RandomGenerator.getDefault());
+    }
+
+    /// Shuffle the input stream into an approximately random order, holding no more than `bufferSize` elements at once.
+    ///
+    /// Once the buffer fills, each new element takes the place of a randomly chosen element in the buffer,
+    /// and the evicted element is emitted. When the input stream ends, the buffer is emitted in random order.
+    /// Elements can only move earlier in the stream by up to `bufferSize` positions, so the larger the buffer,
+    /// the closer the result is to a full shuffle. This works on infinite streams.
+    ///
+    /// @param bufferSize      Maximum number of elements to hold, must be positive
+    /// @param randomGenerator A non-null `RandomGenerator` to use as a random source for the shuffle
+    /// @param <INPUT>         Type of elements in the input stream
+    /// @return A non-null `BufferedShufflingGatherer`
+    public static <INPUT extends @Nullable Object> BufferedShufflingGatherer<INPUT> shuffle(
+            final int bufferSize,
+            final RandomGenerator randomGenerator
+    ) {
+        return new BufferedShufflingGatherer<>(bufferSize, randomGenerator);
+    }
+
+    /// Shuffle the input stream into a random order that is reproducible for the given `seed`. On parallel streams,
+    /// the order is reproducible for a given seed when the stream is split the same way.
+    ///
+    /// Note: This consumes the entire stream and holds it in memory, so it will not work on infinite
+    /// streams and may cause memory pressure on very large streams, unless it is given `withExternalBuckets()`.
+    ///
+    /// @param seed    Seed for the source of randomness
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `ShufflingGatherer`
+    public static <INPUT extends @Nullable Object> ShufflingGatherer<INPUT> shuffleWithSeed(final long seed) {
+        return ShufflingGatherer.withSeed(seed);
+    }
+
     /// Create a Stream that represents the simple moving average of a `Stream<BigDecimal>` looking
     /// back `windowSize` number of elements.
     ///
@@ -886,6 +1161,66 @@ public abstract class Gatherers4j {
         return new LastGatherer<>(count);
     }
 
+    /// Emit the last `count` values of the stream as a single `double[]`, after mapping each element to a `double` with
+    /// the `mappingFunction`. If there are fewer than `count` elements they are all emitted, and an empty stream
+    /// emits nothing.
+    ///
+    /// @param count A positive number of values to keep from the end of the stream
+    /// @param mappingFunction A non-null function to map each element to a `double`
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, double[]> takeLastAsDoubles(
+            final int count,
+            final ToDoubleFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveLastGatherer<>(
+                count,
+                DoubleCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsDouble(element))
+        );
+    }
+
+    /// Emit the last `count` values of the stream as a single `int[]`, after mapping each element to a `int` with
+    /// the `mappingFunction`. If there are fewer than `count` elements they are all emitted, and an empty stream
+    /// emits nothing.
+    ///
+    /// @param count A positive number of values to keep from the end of the stream
+    /// @param mappingFunction A non-null function to map each element to a `int`
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, int[]> takeLastAsInts(
+            final int count,
+            final ToIntFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveLastGatherer<>(
+                count,
+                IntCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsInt(element))
+        );
+    }
+
+    /// Emit the last `count` values of the stream as a single `long[]`, after mapping each element to a `long` with
+    /// the `mappingFunction`. If there are fewer than `count` elements they are all emitted, and an empty stream
+    /// emits nothing.
+    ///
+    /// @param count A positive number of values to keep from the end of the stream
+    /// @param mappingFunction A non-null function to map each element to a `long`
+    /// @param <INPUT> Type of elements in the input stream
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, long[]> takeLastAsLongs(
+            final int count,
+            final ToLongFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveLastGatherer<>(
+                count,
+                LongCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsLong(element))
+        );
+    }
+
     /// Take elements from the input stream until the `predicate` is met, including the first element that
     /// matches the `predicate`.
     ///
@@ -932,18 +1267,127 @@ public abstract class Gatherers4j {
         return new UniquelyOccurringGatherer<>(mappingFunction);
     }
 
+    /// Emit only those elements that occur in the input stream a single time, as identified by the given `long`
+    /// mapping function. Keys are kept in a primitive hash map, so they are not boxed.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param mappingFunction A non-null function, the results of which will be used to detect uniqueness
+    /// @return A non-null `PrimitiveUniquelyOccurringGatherer`
+    public static <INPUT extends @Nullable Object> PrimitiveUniquelyOccurringGatherer<INPUT> uniquelyOccurringByLong(
+            final ToLongFunction<INPUT> mappingFunction
+    ) {
+        return new PrimitiveUniquelyOccurringGatherer<>(mappingFunction);
+    }
+
     /// Create windows over the elements of the input stream that are `windowSize` in length, sliding over `stepping` number of elements
-    /// and optionally including partial windows at the end of ths stream.
+    /// and optionally including partial windows at the end of ths stream. See `WindowGatherer.withParallelSupport()`
+    /// for running in parallel streams.
     ///
     /// @param <INPUT> Type of elements in the input and output stream
     /// @param windowSize Size of the window, must be greater than 0
     /// @param stepping Number of elements to slide over each time a window has filled, must be greater than 0
     /// @param includePartials To include left-over partial windows at the end of the stream or not
-    /// @return A non-null `Gatherer`
-    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, List<INPUT>> window(int windowSize, int stepping, boolean includePartials) {
+    /// @return A non-null `WindowGatherer`
+    public static <INPUT extends @Nullable Object> WindowGatherer<INPUT> window(int windowSize, int stepping, boolean includePartials) {
         return new WindowGatherer<>(windowSize, stepping, includePartials);
     }
 
+    /// Create windows over the elements of the input stream that are `windowSize` in length, sliding over `stepping`
+    /// number of elements and optionally including partial windows at the end of the stream. Each element is mapped to
+    /// a `double` with the `mappingFunction`, and each window is emitted as a `double[]`.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param windowSize Size of the window, must be greater than 0
+    /// @param stepping Number of elements to slide over each time a window has filled, must be greater than 0
+    /// @param includePartials To include left-over partial windows at the end of the stream or not
+    /// @param mappingFunction A non-null function to map each element to a `double`
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, double[]> windowAsDoubles(
+            final int windowSize,
+            final int stepping,
+            final boolean includePartials,
+            final ToDoubleFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveWindowGatherer<>(
+                windowSize,
+                stepping,
+                includePartials,
+                DoubleCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsDouble(element))
+        );
+    }
+
+    /// Create windows over the elements of the input stream that are `windowSize` in length, sliding over `stepping`
+    /// number of elements and optionally including partial windows at the end of the stream. Each element is mapped to
+    /// a `int` with the `mappingFunction`, and each window is emitted as a `int[]`.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param windowSize Size of the window, must be greater than 0
+    /// @param stepping Number of elements to slide over each time a window has filled, must be greater than 0
+    /// @param includePartials To include left-over partial windows at the end of the stream or not
+    /// @param mappingFunction A non-null function to map each element to a `int`
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, int[]> windowAsInts(
+            final int windowSize,
+            final int stepping,
+            final boolean includePartials,
+            final ToIntFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveWindowGatherer<>(
+                windowSize,
+                stepping,
+                includePartials,
+                IntCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsInt(element))
+        );
+    }
+
+    /// Create windows over the elements of the input stream that are `windowSize` in length, sliding over `stepping`
+    /// number of elements and optionally including partial windows at the end of the stream. Each element is mapped to
+    /// a `long` with the `mappingFunction`, and each window is emitted as a `long[]`.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param windowSize Size of the window, must be greater than 0
+    /// @param stepping Number of elements to slide over each time a window has filled, must be greater than 0
+    /// @param includePartials To include left-over partial windows at the end of the stream or not
+    /// @param mappingFunction A non-null function to map each element to a `long`
+    /// @return A non-null `Gatherer`
+    public static <INPUT extends @Nullable Object> Gatherer<INPUT, ?, long[]> windowAsLongs(
+            final int windowSize,
+            final int stepping,
+            final boolean includePartials,
+            final ToLongFunction<INPUT> mappingFunction
+    ) {
+        mustNotBeNull(mappingFunction, "Mapping function must not be null");
+        return new PrimitiveWindowGatherer<>(
+                windowSize,
+                stepping,
+                includePartials,
+                LongCircularBuffer::new,
+                (buffer, element) -> buffer.add(mappingFunction.applyAsLong(element))
+        );
+    }
+
+    /// Create time-based windows over the elements of the input stream, each covering `size` and starting every `hop`.
+    /// When `hop` equals `size` the windows are tumbling, when it is smaller they overlap, and when it is larger elements
+    /// between windows are dropped. Timestamps are interpreted as milliseconds. Windows are emitted as soon as the watermark
+    /// passes their end, see `TimeWindowGatherer.withWatermarkLag(Duration)` for tolerating out-of-order elements.
+    ///
+    /// @param <INPUT> Type of elements in the input stream
+    /// @param size A non-null, positive `Duration` for the length of each window
+    /// @param hop A non-null, positive `Duration` between the start of one window and the next
+    /// @param timestampFunction A non-null function to extract a timestamp, in milliseconds, from each element
+    /// @return A non-null `TimeWindowGatherer`
+    public static <INPUT extends @Nullable Object> TimeWindowGatherer<INPUT> windowByTime(
+            final Duration size,
+            final Duration hop,
+            final ToLongFunction<INPUT> timestampFunction
+    ) {
+        return new TimeWindowGatherer<>(size, hop, timestampFunction);
+    }
+
     /// Maps all elements of the stream as-is along with their 0-based index.
     ///
     /// @param <INPUT> Type of elements in the input stream
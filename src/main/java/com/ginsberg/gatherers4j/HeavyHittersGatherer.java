@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.HeavyHitter;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+public class HeavyHittersGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, HeavyHittersGatherer.State<INPUT>, List<HeavyHitter<INPUT>>> {
+
+    private static final int MAX_COUNTERS = 1 << 24;
+
+    private final int k;
+    private final int capacity;
+    private long snapshotEvery = 0;
+
+    HeavyHittersGatherer(final int k, final double epsilon) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K must be positive");
+        }
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException("Epsilon must be greater than 0 and less than 1");
+        }
+        final double counters = Math.ceil(1 / epsilon);
+        if (counters > MAX_COUNTERS || k > MAX_COUNTERS) {
+            throw new IllegalArgumentException("Too many counters required, consider a larger epsilon or smaller k");
+        }
+        this.k = k;
+        this.capacity = Math.max(k, (int) counters);
+    }
+
+    /// Emit a snapshot of the estimated top `k` after every `elements` elements, rather than only once at
+    /// the end of the stream. This allows the gatherer to be used on infinite streams. Because snapshots are
+    /// taken in encounter order, this gatherer runs sequentially once this is set, even in a parallel stream.
+    ///
+    /// @param elements The positive number of elements between snapshots
+    public HeavyHittersGatherer<INPUT> withSnapshotEvery(final long elements) {
+        if (elements <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshotEvery = elements;
+        return this;
+    }
+
+    @Override
+    public Supplier<State<INPUT>> initializer() {
+        return () -> new State<>(capacity);
+    }
+
+    @Override
+    public Integrator<State<INPUT>, INPUT, List<HeavyHitter<INPUT>>> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            state.add(element);
+            if (snapshotEvery > 0 && state.sinceSnapshot == snapshotEvery) {
+                downstream.push(state.snapshot(k));
+            }
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BinaryOperator<State<INPUT>> combiner() {
+        if (snapshotEvery > 0) {
+            return Gatherer.defaultCombiner();
+        }
+        return (left, right) -> {
+            left.merge(right);
+            return left;
+        };
+    }
+
+    @Override
+    public BiConsumer<State<INPUT>, Downstream<? super List<HeavyHitter<INPUT>>>> finisher() {
+        return (state, downstream) -> {
+            if (state.sinceSnapshot > 0 && !downstream.isRejecting()) {
+                downstream.push(state.snapshot(k));
+            }
+        };
+    }
+
+    // The Space-Saving algorithm: at most `capacity` values are counted. When a value that is not
+    // being counted arrives and every counter is in use, the counter with the smallest count is taken
+    // over, keeping its count (plus one) and recording that count as its error. Counters sit in a
+    // min-heap ordered by count, so the smallest can always be found, and each element costs O(log capacity).
+    public static class State<INPUT extends @Nullable Object> {
+        final int capacity;
+        final Map<INPUT, Counter<INPUT>> counters = new HashMap<>();
+        @Nullable Counter<INPUT>[] heap;
+        int size = 0;
+        long sinceSnapshot = 0;
+
+        @SuppressWarnings("unchecked")
+        State(final int capacity) {
+            this.capacity = capacity;
+            this.heap = (Counter<INPUT>[]) new Counter[Math.min(capacity, 16)];
+        }
+
+        void add(final INPUT element) {
+            sinceSnapshot++;
+            final Counter<INPUT> counter = counters.get(element);
+            if (counter != null) {
+                counter.count++;
+                siftDown(counter.index);
+            } else if (size < capacity) {
+                final Counter<INPUT> added = new Counter<>(element, 1, 0);
+                counters.put(element, added);
+                push(added);
+            } else {
+                final Counter<INPUT> smallest = heap(0);
+                counters.remove(smallest.value);
+                smallest.value = element;
+                smallest.error = smallest.count;
+                smallest.count++;
+                counters.put(element, smallest);
+                siftDown(0);
+            }
+        }
+
+        // A value not counted by a full sketch occurred at most as often as its smallest counter,
+        // and not at all if the sketch is not full, so that is added to both the count and error
+        // of values only counted by the other sketch. Only the `capacity` largest counts are kept.
+        void merge(final State<INPUT> other) {
+            final long thisMissing = size == capacity ? heap(0).count : 0;
+            final long otherMissing = other.size == other.capacity ? other.heap(0).count : 0;
+            final List<Counter<INPUT>> merged = new ArrayList<>(size + other.size);
+            for (int i = 0; i < size; i++) {
+                final Counter<INPUT> counter = heap(i);
+                final Counter<INPUT> matching = other.counters.get(counter.value);
+                if (matching == null) {
+                    counter.count += otherMissing;
+                    counter.error += otherMissing;
+                } else {
+                    counter.count += matching.count;
+                    counter.error += matching.error;
+                }
+                merged.add(counter);
+            }
+            for (int i = 0; i < other.size; i++) {
+                final Counter<INPUT> counter = other.heap(i);
+                if (!counters.containsKey(counter.value)) {
+                    counter.count += thisMissing;
+                    counter.error += thisMissing;
+                    merged.add(counter);
+                }
+            }
+            if (merged.size() > capacity) {
+                merged.sort(Comparator.comparingLong((Counter<INPUT> it) -> it.count).reversed());
+                merged.subList(capacity, merged.size()).clear();
+            }
+            counters.clear();
+            size = 0;
+            for (final Counter<INPUT> counter : merged) {
+                counters.put(counter.value, counter);
+                push(counter);
+            }
+            sinceSnapshot += other.sinceSnapshot;
+        }
+
+        List<HeavyHitter<INPUT>> snapshot(final int k) {
+            sinceSnapshot = 0;
+            final List<Counter<INPUT>> sorted = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sorted.add(heap(i));
+            }
+            sorted.sort(Comparator
+                    .comparingLong((Counter<INPUT> it) -> it.count).reversed()
+                    .thenComparingLong(it -> it.error));
+            final List<HeavyHitter<INPUT>> result = new ArrayList<>(Math.min(k, size));
+            for (int i = 0; i < k && i < size; i++) {
+                final Counter<INPUT> counter = sorted.get(i);
+                result.add(new HeavyHitter<>(counter.value, counter.count, counter.error));
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        private Counter<INPUT> heap(final int index) {
+            return Objects.requireNonNull(heap[index]);
+        }
+
+        private void push(final Counter<INPUT> counter) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, Math.min(capacity, heap.length * 2));
+            }
+            counter.index = size;
+            heap[size++] = counter;
+            siftUp(counter.index);
+        }
+
+        private void siftUp(final int start) {
+            final Counter<INPUT> counter = heap(start);
+            int index = start;
+            while (index > 0) {
+                final int parent = (index - 1) >>> 1;
+                final Counter<INPUT> above = heap(parent);
+                if (above.count <= counter.count) {
+                    break;
+                }
+                place(above, index);
+                index = parent;
+            }
+            place(counter, index);
+        }
+
+        private void siftDown(final int start) {
+            final Counter<INPUT> counter = heap(start);
+            int index = start;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap(child + 1).count < heap(child).count) {
+                    child++;
+                }
+                final Counter<INPUT> below = heap(child);
+                if (counter.count <= below.count) {
+                    break;
+                }
+                place(below, index);
+                index = child;
+            }
+            place(counter, index);
+        }
+
+        private void place(final Counter<INPUT> counter, final int index) {
+            heap[index] = counter;
+            counter.index = index;
+        }
+    }
+
+    static class Counter<INPUT extends @Nullable Object> {
+        INPUT value;
+        long count;
+        long error;
+        int index;
+
+        Counter(final INPUT value, final long count, final long error) {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
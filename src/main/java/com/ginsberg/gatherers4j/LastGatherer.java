@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.Iterator;
 import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
 
@@ -46,6 +47,20 @@ public class LastGatherer<INPUT extends @Nullable Object>
         };
     }
 
+    // A full right split already holds the last elements, otherwise it is topped up from the end of the left.
+    @Override
+    public BinaryOperator<State<INPUT>> combiner() {
+        return (left, right) -> {
+            if (right.elements.size() == lastCount) {
+                return right;
+            }
+            for (final INPUT element : right.elements) {
+                left.elements.add(element);
+            }
+            return left;
+        };
+    }
+
     @Override
     public Supplier<State<INPUT>> initializer() {
         return () -> new State<>(lastCount);
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.CircularBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class MovingDistinctCountGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, MovingDistinctCountGatherer.State, Long> {
+
+    private final Function<INPUT, @Nullable Object> mappingFunction;
+    private final int windowSize;
+    private boolean excludePartialValues = false;
+
+    MovingDistinctCountGatherer(final int windowSize, final Function<INPUT, @Nullable Object> mappingFunction) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("Window size must be greater than 1");
+        }
+        this.windowSize = windowSize;
+        this.mappingFunction = mustNotBeNull(mappingFunction, "Mapping function must not be null");
+    }
+
+    /// When calculating a moving distinct count and the full size of the window has not yet been reached, do
+    /// not emit partially calculated values to the downstream.
+    ///
+    /// For example, if the distinct count is over 10 elements, but the upstream has only emitted two
+    /// elements, this gatherer should not emit any partially calculated values. The default is for
+    /// partially calculated values to be emitted.
+    public MovingDistinctCountGatherer<INPUT> excludePartialValues() {
+        excludePartialValues = true;
+        return this;
+    }
+
+    /// Include the original input value from the stream in addition to the calculated value.
+    public WithOriginalGatherer<INPUT, State, Long> withOriginal() {
+        return new WithOriginalGatherer<>(this);
+    }
+
+    @Override
+    public Supplier<State> initializer() {
+        return () -> new State(windowSize);
+    }
+
+    @Override
+    public Integrator<State, INPUT, Long> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            state.add(mappingFunction.apply(element));
+            if (!excludePartialValues || state.keys.size() == windowSize) {
+                return downstream.push((long) state.counts.size());
+            }
+            return !downstream.isRejecting();
+        });
+    }
+
+    // Every key in the window is counted in a map, so the number of distinct keys is
+    // always the size of the map, and each element entering or leaving is O(1).
+    public static class State {
+        final int windowSize;
+        final CircularBuffer<@Nullable Object> keys;
+        final Map<@Nullable Object, Integer> counts = new HashMap<>();
+
+        State(final int windowSize) {
+            this.windowSize = windowSize;
+            this.keys = new CircularBuffer<>(windowSize);
+        }
+
+        void add(final @Nullable Object key) {
+            if (keys.size() == windowSize) {
+                counts.computeIfPresent(keys.removeFirst(), (_, count) -> count == 1 ? null : count - 1);
+            }
+            keys.add(key);
+            counts.merge(key, 1, Integer::sum);
+        }
+    }
+}
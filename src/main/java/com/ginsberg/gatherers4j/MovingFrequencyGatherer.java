@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.WithCount;
+import com.ginsberg.gatherers4j.util.WindowedFrequencies;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+public class MovingFrequencyGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, WindowedFrequencies<INPUT>, List<WithCount<INPUT>>> {
+
+    private final int windowSize;
+    private final int limit;
+    private boolean excludePartialValues = false;
+
+    MovingFrequencyGatherer(final int windowSize, final int limit) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("Window size must be greater than 1");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.windowSize = windowSize;
+        this.limit = limit;
+    }
+
+    /// When calculating moving frequencies and the full size of the window has not yet been reached, do
+    /// not emit partially calculated values to the downstream.
+    ///
+    /// For example, if the frequencies are over 10 elements, but the upstream has only emitted two
+    /// elements, this gatherer should not emit any partially calculated values. The default is for
+    /// partially calculated values to be emitted.
+    public MovingFrequencyGatherer<INPUT> excludePartialValues() {
+        excludePartialValues = true;
+        return this;
+    }
+
+    /// Include the original input value from the stream in addition to the calculated value.
+    public WithOriginalGatherer<INPUT, WindowedFrequencies<INPUT>, List<WithCount<INPUT>>> withOriginal() {
+        return new WithOriginalGatherer<>(this);
+    }
+
+    @Override
+    public Supplier<WindowedFrequencies<INPUT>> initializer() {
+        return () -> new WindowedFrequencies<>(windowSize);
+    }
+
+    @Override
+    public Integrator<WindowedFrequencies<INPUT>, INPUT, List<WithCount<INPUT>>> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            state.add(element);
+            if (!excludePartialValues || state.isFull()) {
+                final List<WithCount<INPUT>> frequencies = new ArrayList<>(Math.min(limit, state.size()));
+                state.forEachMostFrequent(limit, (value, count) -> frequencies.add(new WithCount<>(value, count)));
+                return downstream.push(Collections.unmodifiableList(frequencies));
+            }
+            return !downstream.isRejecting();
+        });
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.LongHashSet;
+import com.ginsberg.gatherers4j.util.LongSet;
+import com.ginsberg.gatherers4j.util.OffHeapLongHashSet;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class PrimitiveDistinctGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, LongSet, INPUT> {
+
+    private final ToLongFunction<INPUT> mappingFunction;
+    private Supplier<LongSet> setSupplier = LongHashSet::new;
+
+    PrimitiveDistinctGatherer(final ToLongFunction<INPUT> mappingFunction) {
+        this.mappingFunction = mustNotBeNull(mappingFunction, "Mapping function must not be null");
+    }
+
+    /// Keep keys off-heap, in native memory, rather than in a `long[]`. This keeps very large sets away from
+    /// the garbage collector, so that pause times do not grow with them. The memory is released when the
+    /// stream finishes.
+    public PrimitiveDistinctGatherer<INPUT> offHeap() {
+        this.setSupplier = OffHeapLongHashSet::new;
+        return this;
+    }
+
+    @Override
+    public Supplier<LongSet> initializer() {
+        return setSupplier;
+    }
+
+    @Override
+    public Integrator<LongSet, INPUT, INPUT> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            if (state.add(mappingFunction.applyAsLong(element))) {
+                downstream.push(element);
+            }
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BiConsumer<LongSet, Downstream<? super INPUT>> finisher() {
+        return (state, downstream) -> state.close();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.PrimitiveCircularBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+public class PrimitiveDropLastGatherer<INPUT extends @Nullable Object, ARRAY, BUFFER extends PrimitiveCircularBuffer<ARRAY>>
+        implements Gatherer<INPUT, PrimitiveDropLastGatherer.State<BUFFER>, ARRAY> {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private final int count;
+    private final IntFunction<BUFFER> bufferFactory;
+    private final BiConsumer<BUFFER, INPUT> addFunction;
+
+    PrimitiveDropLastGatherer(
+            final int count,
+            final IntFunction<BUFFER> bufferFactory,
+            final BiConsumer<BUFFER, INPUT> addFunction
+    ) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("DropLast count must be positive");
+        }
+        if (count > Integer.MAX_VALUE / 2 - BLOCK_SIZE) {
+            throw new IllegalArgumentException("DropLast count is too large");
+        }
+        this.count = count;
+        this.bufferFactory = bufferFactory;
+        this.addFunction = addFunction;
+    }
+
+    @Override
+    public Supplier<State<BUFFER>> initializer() {
+        return () -> new State<>(bufferFactory.apply(count + BLOCK_SIZE));
+    }
+
+    // The buffer holds the values being held back plus one block, so values are
+    // released a full block at a time rather than one array per value.
+    @Override
+    public Integrator<State<BUFFER>, INPUT, ARRAY> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            if (state.values.size() == state.values.capacity()) {
+                downstream.push(state.values.removeFirst(BLOCK_SIZE));
+            }
+            addFunction.accept(state.values, element);
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BiConsumer<State<BUFFER>, Downstream<? super ARRAY>> finisher() {
+        return (state, downstream) -> {
+            final int releasable = state.values.size() - count;
+            if (releasable > 0 && !downstream.isRejecting()) {
+                downstream.push(state.values.removeFirst(releasable));
+            }
+        };
+    }
+
+    public static class State<BUFFER> {
+        final BUFFER values;
+
+        State(final BUFFER values) {
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.PrimitiveCircularBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+public class PrimitiveLastGatherer<INPUT extends @Nullable Object, ARRAY, BUFFER extends PrimitiveCircularBuffer<ARRAY>>
+        implements Gatherer<INPUT, PrimitiveLastGatherer.State<BUFFER>, ARRAY> {
+
+    private final int lastCount;
+    private final IntFunction<BUFFER> bufferFactory;
+    private final BiConsumer<BUFFER, INPUT> addFunction;
+
+    PrimitiveLastGatherer(
+            final int lastCount,
+            final IntFunction<BUFFER> bufferFactory,
+            final BiConsumer<BUFFER, INPUT> addFunction
+    ) {
+        if (lastCount <= 0) {
+            throw new IllegalArgumentException("Last count must be positive");
+        }
+        this.lastCount = lastCount;
+        this.bufferFactory = bufferFactory;
+        this.addFunction = addFunction;
+    }
+
+    @Override
+    public Supplier<State<BUFFER>> initializer() {
+        return () -> new State<>(bufferFactory.apply(lastCount));
+    }
+
+    @Override
+    public Integrator<State<BUFFER>, INPUT, ARRAY> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            addFunction.accept(state.values, element);
+            return !downstream.isRejecting();
+        });
+    }
+
+    // A full right split already holds the last values, otherwise it is topped up from the end of the left.
+    @Override
+    public BinaryOperator<State<BUFFER>> combiner() {
+        return (left, right) -> {
+            if (right.values.size() == lastCount) {
+                return right;
+            }
+            left.values.append(right.values);
+            return left;
+        };
+    }
+
+    @Override
+    public BiConsumer<State<BUFFER>, Downstream<? super ARRAY>> finisher() {
+        return (state, downstream) -> state.values.drainTo(downstream, lastCount);
+    }
+
+    public static class State<BUFFER> {
+        final BUFFER values;
+
+        State(final BUFFER values) {
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.LongIntHashMap;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class PrimitiveUniquelyOccurringGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, PrimitiveUniquelyOccurringGatherer.State<INPUT>, INPUT> {
+
+    private final ToLongFunction<INPUT> mappingFunction;
+
+    PrimitiveUniquelyOccurringGatherer(final ToLongFunction<INPUT> mappingFunction) {
+        this.mappingFunction = mustNotBeNull(mappingFunction, "Mapping function must not be null");
+    }
+
+    @Override
+    public Supplier<State<INPUT>> initializer() {
+        return State::new;
+    }
+
+    @Override
+    public Integrator<State<INPUT>, INPUT, INPUT> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            state.add(mappingFunction.applyAsLong(element), element);
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BinaryOperator<State<INPUT>> combiner() {
+        return (left, right) -> {
+            for (int i = 0; i < right.elements.size(); i++) {
+                final long key = right.keys[i];
+                if (right.firstIndex.get(key, State.MISSING) == State.DUPLICATE) {
+                    left.markDuplicate(key);
+                } else {
+                    left.add(key, right.elements.get(i));
+                }
+            }
+            return left;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public BiConsumer<State<INPUT>, Downstream<? super INPUT>> finisher() {
+        return (state, downstream) -> {
+            for (int i = 0; i < state.elements.size() && !downstream.isRejecting(); i++) {
+                if (state.firstIndex.get(state.keys[i], State.MISSING) == i) {
+                    downstream.push((INPUT) state.elements.get(i));
+                }
+            }
+        };
+    }
+
+    // The first element seen for each key is kept, in encounter order, alongside its key. The map holds
+    // the index of that element, or DUPLICATE once the key has been seen again.
+    public static class State<INPUT extends @Nullable Object> {
+        static final int MISSING = -1;
+        static final int DUPLICATE = -2;
+
+        final LongIntHashMap firstIndex = new LongIntHashMap();
+        final List<@Nullable INPUT> elements = new ArrayList<>();
+        long[] keys = new long[16];
+
+        void add(final long key, final @Nullable INPUT element) {
+            final int index = firstIndex.get(key, MISSING);
+            if (index == MISSING) {
+                firstIndex.put(key, append(key, element));
+            } else {
+                markDuplicate(key);
+            }
+        }
+
+        void markDuplicate(final long key) {
+            final int index = firstIndex.get(key, MISSING);
+            if (index == MISSING) {
+                // Keep the key in order, so that combining this state with another carries it over
+                append(key, null);
+            } else if (index != DUPLICATE) {
+                // Release the element, it will never be emitted
+                elements.set(index, null);
+            }
+            firstIndex.put(key, DUPLICATE);
+        }
+
+        private int append(final long key, final @Nullable INPUT element) {
+            final int next = elements.size();
+            if (next == keys.length) {
+                keys = Arrays.copyOf(keys, next << 1);
+            }
+            keys[next] = key;
+            elements.add(element);
+            return next;
+        }
+    }
+}
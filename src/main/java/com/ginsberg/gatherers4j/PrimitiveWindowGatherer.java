@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.util.PrimitiveCircularBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+
+public class PrimitiveWindowGatherer<INPUT extends @Nullable Object, ARRAY, BUFFER extends PrimitiveCircularBuffer<ARRAY>>
+        implements Gatherer<INPUT, PrimitiveWindowGatherer.State<BUFFER>, ARRAY> {
+
+    private final boolean includePartials;
+    private final int stepping;
+    private final int windowSize;
+    private final IntFunction<BUFFER> bufferFactory;
+    private final BiConsumer<BUFFER, INPUT> addFunction;
+
+    PrimitiveWindowGatherer(
+            final int windowSize,
+            final int stepping,
+            final boolean includePartials,
+            final IntFunction<BUFFER> bufferFactory,
+            final BiConsumer<BUFFER, INPUT> addFunction
+    ) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than zero");
+        }
+        if (stepping <= 0) {
+            throw new IllegalArgumentException("Stepping must be greater than zero");
+        }
+        this.windowSize = windowSize;
+        this.stepping = stepping;
+        this.includePartials = includePartials;
+        this.bufferFactory = bufferFactory;
+        this.addFunction = addFunction;
+    }
+
+    @Override
+    public Supplier<State<BUFFER>> initializer() {
+        return () -> new State<>(bufferFactory.apply(windowSize));
+    }
+
+    @Override
+    public Integrator<State<BUFFER>, INPUT, ARRAY> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            if (state.stepDelta == 0) {
+                addFunction.accept(state.window, element);
+            } else {
+                state.stepDelta--;
+            }
+            if (state.window.size() == windowSize) {
+                downstream.push(state.window.toArray());
+                state.stepDelta = Math.max(0, stepping - windowSize);
+                state.window.drop(stepping);
+            }
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BiConsumer<State<BUFFER>, Downstream<? super ARRAY>> finisher() {
+        return (state, downstream) -> {
+            if (includePartials) {
+                while (!state.window.isEmpty() && !downstream.isRejecting()) {
+                    downstream.push(state.window.toArray());
+                    state.window.drop(stepping);
+                }
+            }
+        };
+    }
+
+    public static class State<BUFFER> {
+        int stepDelta = 0;
+        final BUFFER window;
+
+        State(final BUFFER window) {
+            this.window = window;
+        }
+    }
+}
@@ -16,10 +16,11 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.util.GrowableBuffer;
+import com.ginsberg.gatherers4j.util.SegmentedBuffer;
+import com.ginsberg.gatherers4j.util.SpillingBuffer;
 import org.jspecify.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
@@ -31,6 +32,7 @@ public class RepeatingGatherer<INPUT extends @Nullable Object>
 
     private static final int INFINITE = -1;
     private final int repeats;
+    private Supplier<GrowableBuffer<INPUT>> bufferSupplier = SegmentedBuffer::new;
 
     public static <INPUT> RepeatingGatherer<INPUT> ofInfinite() {
         return new RepeatingGatherer<>(INFINITE);
@@ -47,9 +49,20 @@ public class RepeatingGatherer<INPUT extends @Nullable Object>
         this.repeats = repeats;
     }
 
+    /// Hold elements in serialized form, and once more than `memoryBudgetBytes` would be held in memory,
+    /// write them to a temporary file. Each repeat replays the elements from the file, which is deleted
+    /// once repeating stops.
+    ///
+    /// @param memoryBudgetBytes Maximum number of serialized bytes to hold in memory, must be positive
+    /// @param serializer        Non-null `Serializer` to convert elements to and from bytes
+    public RepeatingGatherer<INPUT> spillable(final long memoryBudgetBytes, final Serializer<INPUT> serializer) {
+        this.bufferSupplier = SpillingBuffer.supplier(memoryBudgetBytes, serializer);
+        return this;
+    }
+
     @Override
     public Supplier<RepeatingGatherer.State<INPUT>> initializer() {
-        return () -> new State<>(repeats);
+        return () -> new State<>(repeats, bufferSupplier.get());
     }
 
     @Override
@@ -63,22 +76,27 @@ public class RepeatingGatherer<INPUT extends @Nullable Object>
     @Override
     public BiConsumer<RepeatingGatherer.State<INPUT>, Downstream<? super INPUT>> finisher() {
         return (inputState, downstream) -> {
-            while (!downstream.isRejecting() && (inputState.repeatsRemaining == INFINITE || inputState.repeatsRemaining > 0)) {
+            try {
+                while (!downstream.isRejecting() && (inputState.repeatsRemaining == INFINITE || inputState.repeatsRemaining > 0)) {
 
-                pushAll(inputState.theStream, downstream);
-                if (inputState.repeatsRemaining != INFINITE) {
-                    inputState.repeatsRemaining--;
+                    pushAll(inputState.theStream.iterator(), downstream);
+                    if (inputState.repeatsRemaining != INFINITE) {
+                        inputState.repeatsRemaining--;
+                    }
                 }
+            } finally {
+                inputState.theStream.close();
             }
         };
     }
 
     public static class State<INPUT> {
         int repeatsRemaining;
-        final List<INPUT> theStream = new ArrayList<>();
+        final GrowableBuffer<INPUT> theStream;
 
-        State(final int repeatsRemaining) {
+        State(final int repeatsRemaining, final GrowableBuffer<INPUT> theStream) {
             this.repeatsRemaining = repeatsRemaining;
+            this.theStream = theStream;
         }
     }
 }
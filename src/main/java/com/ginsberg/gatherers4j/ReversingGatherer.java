@@ -16,20 +16,42 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.util.GrowableBuffer;
+import com.ginsberg.gatherers4j.util.SegmentedBuffer;
+import com.ginsberg.gatherers4j.util.SpillingBuffer;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
 
+import static com.ginsberg.gatherers4j.util.GathererUtils.pushAll;
+
 public class ReversingGatherer<INPUT extends @Nullable Object>
         implements Gatherer<INPUT, ReversingGatherer.State<INPUT>, INPUT> {
 
+    private Supplier<GrowableBuffer<INPUT>> bufferSupplier = SegmentedBuffer::new;
+
+    ReversingGatherer() {
+    }
+
+    /// Hold elements in serialized form, and once more than `memoryBudgetBytes` would be held in memory,
+    /// write them to a temporary file. Elements are read back from the file in reverse order once the input
+    /// stream ends, and the file is deleted once they have all been emitted.
+    ///
+    /// @param memoryBudgetBytes Maximum number of serialized bytes to hold in memory, must be positive
+    /// @param serializer        Non-null `Serializer` to convert elements to and from bytes
+    public ReversingGatherer<INPUT> spillable(final long memoryBudgetBytes, final Serializer<INPUT> serializer) {
+        this.bufferSupplier = SpillingBuffer.supplier(memoryBudgetBytes, serializer);
+        return this;
+    }
+
     @Override
     public Supplier<ReversingGatherer.State<INPUT>> initializer() {
-        return State::new;
+        return () -> new State<>(bufferSupplier.get());
     }
 
     @Override
@@ -40,16 +62,36 @@ public class ReversingGatherer<INPUT extends @Nullable Object>
         });
     }
 
+    // Each split keeps its own buffer, and combining links them together in encounter order
+    // without copying any elements. The finisher walks the buffers from last to first.
+    @Override
+    public BinaryOperator<State<INPUT>> combiner() {
+        return (left, right) -> {
+            left.parts.addAll(right.parts);
+            return left;
+        };
+    }
+
     @Override
     public BiConsumer<ReversingGatherer.State<INPUT>, Downstream<? super INPUT>> finisher() {
         return (state, downstream) -> {
-            for (int i = state.inputs.size() - 1; i >= 0 && !downstream.isRejecting(); i--) {
-                downstream.push(state.inputs.get(i));
+            try {
+                for (int i = state.parts.size() - 1; i >= 0 && !downstream.isRejecting(); i--) {
+                    pushAll(state.parts.get(i).descendingIterator(), downstream);
+                }
+            } finally {
+                state.parts.forEach(GrowableBuffer::close);
             }
         };
     }
 
     public static class State<INPUT> {
-        final List<INPUT> inputs = new ArrayList<>();
+        final GrowableBuffer<INPUT> inputs;
+        final List<GrowableBuffer<INPUT>> parts = new ArrayList<>();
+
+        State(final GrowableBuffer<INPUT> inputs) {
+            this.inputs = inputs;
+            parts.add(inputs);
+        }
     }
 }
@@ -17,19 +17,23 @@
 package com.ginsberg.gatherers4j;
 
 import com.ginsberg.gatherers4j.enums.Rotate;
+import com.ginsberg.gatherers4j.util.GrowableBuffer;
+import com.ginsberg.gatherers4j.util.SegmentedBuffer;
+import com.ginsberg.gatherers4j.util.SpillingBuffer;
 import org.jspecify.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
 
+import static com.ginsberg.gatherers4j.util.GathererUtils.pushAll;
+
 public class RotateGatherer<INPUT extends @Nullable Object>
         implements Gatherer<INPUT, RotateGatherer.State<INPUT>, INPUT> {
 
     private final Rotate direction;
     private final int distance;
+    private Supplier<GrowableBuffer<INPUT>> bufferSupplier = SegmentedBuffer::new;
 
     public RotateGatherer(final Rotate direction, final int distance) {
         if (distance < 0) {
@@ -41,9 +45,20 @@ public class RotateGatherer<INPUT extends @Nullable Object>
         }
     }
 
+    /// Hold elements in serialized form, and once more than `memoryBudgetBytes` would be held in memory,
+    /// write them to a temporary file. Elements are read back from the file in rotated order once the input
+    /// stream ends, and the file is deleted once they have all been emitted.
+    ///
+    /// @param memoryBudgetBytes Maximum number of serialized bytes to hold in memory, must be positive
+    /// @param serializer        Non-null `Serializer` to convert elements to and from bytes
+    public RotateGatherer<INPUT> spillable(final long memoryBudgetBytes, final Serializer<INPUT> serializer) {
+        this.bufferSupplier = SpillingBuffer.supplier(memoryBudgetBytes, serializer);
+        return this;
+    }
+
     @Override
     public Supplier<State<INPUT>> initializer() {
-        return State::new;
+        return () -> new State<>(bufferSupplier.get());
     }
 
     @Override
@@ -63,22 +78,27 @@ public class RotateGatherer<INPUT extends @Nullable Object>
     @Override
     public BiConsumer<State<INPUT>, Downstream<? super INPUT>> finisher() {
         return (inputState, downstream) -> {
-            final int size = inputState.fullStream.size();
-            if (size == 0) {
-                return;
-            }
-            final int rotateDistance = distance % size;
-            for (int i = 0; i < size; i++) {
-                if (direction == Rotate.Left) {
-                    downstream.push(inputState.fullStream.get((i + rotateDistance) % size));
-                } else {
-                    downstream.push(inputState.fullStream.get((i - rotateDistance + size) % size));
+            final GrowableBuffer<INPUT> buffer = inputState.fullStream;
+            try {
+                final int size = buffer.size();
+                if (size == 0) {
+                    return;
                 }
+                final int rotateDistance = distance % size;
+                final int split = direction == Rotate.Left ? rotateDistance : size - rotateDistance;
+                pushAll(buffer.iterator(split, size), downstream);
+                pushAll(buffer.iterator(0, split), downstream);
+            } finally {
+                buffer.close();
             }
         };
     }
 
     public static class State<INPUT> {
-        final List<INPUT> fullStream = new ArrayList<>();
+        final GrowableBuffer<INPUT> fullStream;
+
+        State(final GrowableBuffer<INPUT> fullStream) {
+            this.fullStream = fullStream;
+        }
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+/// Converts elements to and from bytes, so gatherers that spill to disk can write them out and read them back.
+///
+/// @param <T> Type of element being serialized
+public interface Serializer<T extends @Nullable Object> {
+
+    /// Convert the given element to bytes
+    ///
+    /// @param element The element to convert, which may be null if the stream contains nulls
+    /// @return A non-null array of bytes
+    byte[] serialize(T element);
+
+    /// Convert bytes back into an element.
+    ///
+    /// @param bytes A read-only buffer whose remaining bytes are exactly those produced by `serialize()`
+    /// @return The element the bytes were created from
+    T deserialize(ByteBuffer bytes);
+
+    /// Create a `Serializer` from a pair of functions.
+    ///
+    /// @param serializer   Non-null function to convert an element to bytes
+    /// @param deserializer Non-null function to convert bytes back into an element
+    /// @param <T>          Type of element being serialized
+    /// @return A non-null `Serializer`
+    static <T extends @Nullable Object> Serializer<T> of(
+            final Function<T, byte[]> serializer,
+            final Function<ByteBuffer, T> deserializer
+    ) {
+        mustNotBeNull(serializer, "Serializer function must not be null");
+        mustNotBeNull(deserializer, "Deserializer function must not be null");
+        return new Serializer<>() {
+            @Override
+            public byte[] serialize(final T element) {
+                return serializer.apply(element);
+            }
+
+            @Override
+            public T deserialize(final ByteBuffer bytes) {
+                return deserializer.apply(bytes);
+            }
+        };
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.SessionWindow;
+import com.ginsberg.gatherers4j.util.TimingWheel;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class SessionWindowGatherer<INPUT extends @Nullable Object, KEY extends @Nullable Object>
+        implements Gatherer<INPUT, SessionWindowGatherer.State<INPUT, KEY>, SessionWindow<KEY, INPUT>> {
+
+    private final Function<INPUT, KEY> keyFunction;
+    private final ToLongFunction<INPUT> timestampFunction;
+    private final long gap;
+    private long watermarkLag = 0;
+
+    SessionWindowGatherer(
+            final Function<INPUT, KEY> keyFunction,
+            final ToLongFunction<INPUT> timestampFunction,
+            final Duration gap
+    ) {
+        mustNotBeNull(gap, "Gap must not be null");
+        if (gap.toMillis() < 1) {
+            throw new IllegalArgumentException("Minimum gap is 1ms");
+        }
+        this.keyFunction = mustNotBeNull(keyFunction, "Key function must not be null");
+        this.timestampFunction = mustNotBeNull(timestampFunction, "Timestamp function must not be null");
+        this.gap = gap.toMillis();
+    }
+
+    /// Tolerate elements that arrive out of order by up to `lag`. A session is only closed and
+    /// emitted once the watermark (the largest timestamp seen so far, minus `lag`) has passed its end.
+    /// A late element joins a held session for its key only if it is within the gap of that session,
+    /// which may join two held sessions into one. Otherwise, it starts a new session, unless that
+    /// session would already have expired, in which case it is dropped. The default lag is zero.
+    ///
+    /// @param lag A non-null, non-negative `Duration`
+    public SessionWindowGatherer<INPUT, KEY> withWatermarkLag(final Duration lag) {
+        mustNotBeNull(lag, "Lag must not be null");
+        if (lag.isNegative()) {
+            throw new IllegalArgumentException("Lag must not be negative");
+        }
+        this.watermarkLag = lag.toMillis();
+        return this;
+    }
+
+    @Override
+    public Supplier<State<INPUT, KEY>> initializer() {
+        return () -> new State<>(gap, watermarkLag);
+    }
+
+    @Override
+    public Integrator<State<INPUT, KEY>, INPUT, SessionWindow<KEY, INPUT>> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            state.add(element, keyFunction.apply(element), timestampFunction.applyAsLong(element), downstream);
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BiConsumer<State<INPUT, KEY>, Downstream<? super SessionWindow<KEY, INPUT>>> finisher() {
+        return (state, downstream) -> {
+            final List<Session<INPUT, KEY>> remaining = new ArrayList<>();
+            state.sessions.values().forEach(remaining::addAll);
+            remaining.sort(Comparator.comparingLong((Session<INPUT, KEY> it) -> it.last).thenComparingLong(it -> it.start));
+            for (int i = 0; i < remaining.size() && !downstream.isRejecting(); i++) {
+                downstream.push(remaining.get(i).toWindow(gap));
+            }
+        };
+    }
+
+    // Open sessions are found by key in a map, and their expiry is tracked in a timing wheel. Without a
+    // watermark lag a key has at most one open session, but with one, late elements may leave several
+    // open sessions per key, held in the order they were started. Whenever a session is extended its
+    // timer is moved, so every timer fires exactly when its session expires.
+    public static class State<INPUT extends @Nullable Object, KEY extends @Nullable Object> {
+        final long gap;
+        final long lag;
+        final Map<KEY, List<Session<INPUT, KEY>>> sessions = new HashMap<>();
+        @Nullable TimingWheel<Session<INPUT, KEY>> wheel;
+        long maxTimestamp = Long.MIN_VALUE;
+        long sequence = 0;
+
+        State(final long gap, final long lag) {
+            this.gap = gap;
+            this.lag = lag;
+        }
+
+        void add(
+                final INPUT element,
+                final KEY key,
+                final long timestamp,
+                final Downstream<? super SessionWindow<KEY, INPUT>> downstream
+        ) {
+            TimingWheel<Session<INPUT, KEY>> timers = wheel;
+            if (timers == null) {
+                timers = new TimingWheel<>(timestamp - lag);
+                wheel = timers;
+                maxTimestamp = timestamp;
+            } else if (timestamp > maxTimestamp) {
+                maxTimestamp = timestamp;
+                timers.advanceTo(timestamp - lag, session -> expire(session, downstream));
+            }
+
+            final List<Session<INPUT, KEY>> open = sessions.get(key);
+            Session<INPUT, KEY> joined = null;
+            if (open != null) {
+                for (int i = 0; i < open.size(); ) {
+                    final Session<INPUT, KEY> session = open.get(i);
+                    if (timestamp <= session.start - gap || timestamp >= session.last + gap) {
+                        i++;
+                    } else if (joined == null) {
+                        joined = session;
+                        i++;
+                    } else {
+                        // This element bridges the gap between two sessions
+                        timers.cancel(session);
+                        joined.absorb(session);
+                        open.remove(i);
+                    }
+                }
+            }
+
+            if (joined == null) {
+                if (timestamp + gap <= timers.currentTime()) {
+                    // This would start a session that has already expired
+                    return;
+                }
+                joined = new Session<>(key, timestamp);
+                sessions.computeIfAbsent(key, _ -> new ArrayList<>()).add(joined);
+                timers.schedule(joined, timestamp + gap);
+            } else {
+                joined.start = Math.min(joined.start, timestamp);
+                joined.last = Math.max(joined.last, timestamp);
+                if (joined.last + gap != joined.deadline()) {
+                    timers.reschedule(joined, joined.last + gap);
+                }
+            }
+            joined.add(element, sequence++);
+        }
+
+        private void expire(
+                final Session<INPUT, KEY> session,
+                final Downstream<? super SessionWindow<KEY, INPUT>> downstream
+        ) {
+            final List<Session<INPUT, KEY>> open = sessions.get(session.key);
+            if (open != null) {
+                open.remove(session);
+                if (open.isEmpty()) {
+                    sessions.remove(session.key);
+                }
+            }
+            if (!downstream.isRejecting()) {
+                downstream.push(session.toWindow(gap));
+            }
+        }
+    }
+
+    static class Session<INPUT extends @Nullable Object, KEY extends @Nullable Object> extends TimingWheel.Timer {
+        final KEY key;
+        // Elements are kept with the order they arrived in, so that sessions joined together stay in encounter order
+        List<INPUT> elements = new ArrayList<>();
+        long[] sequences = new long[4];
+        long start;
+        long last;
+
+        Session(final KEY key, final long timestamp) {
+            this.key = key;
+            this.start = timestamp;
+            this.last = timestamp;
+        }
+
+        void add(final INPUT element, final long sequence) {
+            if (elements.size() == sequences.length) {
+                sequences = Arrays.copyOf(sequences, sequences.length * 2);
+            }
+            sequences[elements.size()] = sequence;
+            elements.add(element);
+        }
+
+        void absorb(final Session<INPUT, KEY> other) {
+            start = Math.min(start, other.start);
+            last = Math.max(last, other.last);
+            final int total = elements.size() + other.elements.size();
+            final List<INPUT> mergedElements = new ArrayList<>(total);
+            final long[] mergedSequences = new long[Math.max(4, Integer.highestOneBit(total) << 1)];
+            int mine = 0;
+            int theirs = 0;
+            while (mine < elements.size() || theirs < other.elements.size()) {
+                if (theirs == other.elements.size()
+                        || (mine < elements.size() && sequences[mine] < other.sequences[theirs])) {
+                    mergedSequences[mergedElements.size()] = sequences[mine];
+                    mergedElements.add(elements.get(mine++));
+                } else {
+                    mergedSequences[mergedElements.size()] = other.sequences[theirs];
+                    mergedElements.add(other.elements.get(theirs++));
+                }
+            }
+            elements = mergedElements;
+            sequences = mergedSequences;
+        }
+
+        SessionWindow<KEY, INPUT> toWindow(final long gap) {
+            return new SessionWindow<>(key, start, last + gap, Collections.unmodifiableList(elements));
+        }
+    }
+}
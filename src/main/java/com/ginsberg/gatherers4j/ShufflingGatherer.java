@@ -16,11 +16,17 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.util.GrowableBuffer;
+import com.ginsberg.gatherers4j.util.SegmentedBuffer;
+import com.ginsberg.gatherers4j.util.SpillingBuffer;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 import java.util.stream.Gatherer;
@@ -30,41 +36,189 @@ import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
 public class ShufflingGatherer<INPUT extends @Nullable Object> implements
         Gatherer<INPUT, ShufflingGatherer.State<INPUT>, INPUT> {
 
-    private final RandomGenerator randomGenerator;
+    // How many serialized bytes each bucket holds in memory before writing to its file
+    private static final int BUCKET_MEMORY_BUDGET = 64 * 1024;
+
+    private final Supplier<RandomGenerator> randomSupplier;
+    private final boolean splittable;
+    private int buckets = 0;
+    private @Nullable Supplier<GrowableBuffer<INPUT>> bucketSupplier;
 
     ShufflingGatherer(final RandomGenerator randomGenerator) {
-        this.randomGenerator = mustNotBeNull(randomGenerator, "RandomGenerator must not be null");
+        mustNotBeNull(randomGenerator, "RandomGenerator must not be null");
+        this.randomSupplier = () -> randomGenerator;
+        this.splittable = randomGenerator instanceof RandomGenerator.SplittableGenerator;
+    }
+
+    private ShufflingGatherer(final long seed) {
+        this.randomSupplier = () -> new SplittableRandom(seed);
+        this.splittable = true;
+    }
+
+    static <INPUT extends @Nullable Object> ShufflingGatherer<INPUT> withSeed(final long seed) {
+        return new ShufflingGatherer<>(seed);
+    }
+
+    /// Shuffle streams too large to hold in memory. As elements arrive, each is serialized and written to one of
+    /// `buckets` temporary files, chosen at random. Once the input stream ends, each bucket in turn is read back into
+    /// memory, shuffled, and emitted. Only one bucket is held in memory at a time, so choose enough buckets that
+    /// the input stream divided by `buckets` fits comfortably in memory. Each bucket's file is deleted once it
+    /// has been emitted.
+    ///
+    /// @param buckets    Number of buckets to scatter elements into, must be positive
+    /// @param serializer Non-null `Serializer` to convert elements to and from bytes
+    public ShufflingGatherer<INPUT> withExternalBuckets(final int buckets, final Serializer<INPUT> serializer) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("Number of buckets must be positive");
+        }
+        this.bucketSupplier = SpillingBuffer.supplier(BUCKET_MEMORY_BUDGET, serializer);
+        this.buckets = buckets;
+        return this;
     }
 
     @Override
     public Supplier<ShufflingGatherer.State<INPUT>> initializer() {
-        return State::new;
+        return () -> new State<>(randomSupplier.get(), buckets);
     }
 
     @Override
     public Integrator<ShufflingGatherer.State<INPUT>, INPUT, INPUT> integrator() {
         return Integrator.ofGreedy((state, element, downstream) -> {
-            state.inputs.add(element);
+            if (bucketSupplier == null) {
+                state.inputs.add(element);
+            } else {
+                final int index = state.random.nextInt(buckets);
+                GrowableBuffer<INPUT> bucket = state.buckets.get(index);
+                if (bucket == null) {
+                    bucket = bucketSupplier.get();
+                    state.buckets.set(index, bucket);
+                }
+                bucket.add(element);
+            }
             return !downstream.isRejecting();
         });
     }
 
+    // Splits can only be shuffled independently when each can be given its own source of randomness.
+    @Override
+    public BinaryOperator<State<INPUT>> combiner() {
+        if (!splittable || bucketSupplier != null) {
+            return Gatherer.defaultCombiner();
+        }
+        return (left, right) -> {
+            left.parts.addAll(right.parts);
+            return left;
+        };
+    }
+
     @Override
     public BiConsumer<ShufflingGatherer.State<INPUT>, Downstream<? super INPUT>> finisher() {
         return (state, downstream) -> {
-            while (!state.inputs.isEmpty() && !downstream.isRejecting()) {
-                int randomSlot = randomGenerator.nextInt(state.inputs.size());
-                INPUT last = state.inputs.removeLast();
-                if (randomSlot < state.inputs.size()) {
-                    downstream.push(state.inputs.set(randomSlot, last));
-                } else {
-                    downstream.push(last);
+            if (state.parts.size() > 1) {
+                pushInterleaved(state.parts, (RandomGenerator.SplittableGenerator) state.random, downstream);
+                return;
+            }
+            try {
+                pushShuffled(state.inputs, state.random, downstream);
+                // Elements were scattered at random, so shuffling each bucket in turn shuffles the whole stream
+                for (int i = 0; i < state.buckets.size() && !downstream.isRejecting(); i++) {
+                    final GrowableBuffer<INPUT> bucket = state.buckets.set(i, null);
+                    if (bucket != null) {
+                        try (bucket) {
+                            bucket.forEach(state.inputs::add);
+                        }
+                        pushShuffled(state.inputs, state.random, downstream);
+                    }
+                }
+            } finally {
+                for (final GrowableBuffer<INPUT> bucket : state.buckets) {
+                    if (bucket != null) {
+                        bucket.close();
+                    }
                 }
             }
         };
     }
 
+    private void pushShuffled(
+            final SegmentedBuffer<INPUT> inputs,
+            final RandomGenerator random,
+            final Downstream<? super INPUT> downstream
+    ) {
+        while (!inputs.isEmpty() && !downstream.isRejecting()) {
+            downstream.push(inputs.swapRemove(random.nextInt(inputs.size())));
+        }
+    }
+
+    // Shuffle each part with its own generator split from `random` in encounter order, so the result
+    // depends only on the seed and how the stream was split. This runs sequentially, because the finisher may
+    // already be running in the common pool, and must not submit more work to it. Then interleave the parts,
+    // drawing the next element from each part with probability proportional to how many it has left,
+    // which makes every interleaving equally likely, so the whole result is a uniform shuffle.
+    private void pushInterleaved(
+            final List<SegmentedBuffer<INPUT>> parts,
+            final RandomGenerator.SplittableGenerator random,
+            final Downstream<? super INPUT> downstream
+    ) {
+        for (final SegmentedBuffer<INPUT> part : parts) {
+            shuffleInPlace(part, random.split());
+        }
+
+        // Remaining counts are kept in a Fenwick tree so picking and updating a part is O(log parts)
+        final long[] remainingByPart = new long[parts.size() + 1];
+        long remaining = 0;
+        for (int i = 1; i <= parts.size(); i++) {
+            remainingByPart[i] += parts.get(i - 1).size();
+            remaining += parts.get(i - 1).size();
+            final int parent = i + (i & -i);
+            if (parent <= parts.size()) {
+                remainingByPart[parent] += remainingByPart[i];
+            }
+        }
+        final int[] positions = new int[parts.size()];
+        while (remaining > 0 && !downstream.isRejecting()) {
+            final int part = findPart(remainingByPart, random.nextLong(remaining));
+            for (int i = part + 1; i < remainingByPart.length; i += i & -i) {
+                remainingByPart[i]--;
+            }
+            remaining--;
+            downstream.push(parts.get(part).get(positions[part]++));
+        }
+    }
+
+    // Find the part holding the `target`th remaining element.
+    private static int findPart(final long[] remainingByPart, final long target) {
+        int part = 0;
+        long skipped = target;
+        for (int step = Integer.highestOneBit(remainingByPart.length - 1); step > 0; step >>= 1) {
+            final int next = part + step;
+            if (next < remainingByPart.length && remainingByPart[next] <= skipped) {
+                part = next;
+                skipped -= remainingByPart[next];
+            }
+        }
+        return part;
+    }
+
+    private static <INPUT extends @Nullable Object> void shuffleInPlace(
+            final SegmentedBuffer<INPUT> elements,
+            final RandomGenerator random
+    ) {
+        for (int i = elements.size() - 1; i > 0; i--) {
+            elements.set(i, elements.set(random.nextInt(i + 1), elements.get(i)));
+        }
+    }
+
     public static class State<INPUT> {
-        final List<INPUT> inputs = new ArrayList<>();
+        final RandomGenerator random;
+        final SegmentedBuffer<INPUT> inputs = new SegmentedBuffer<>();
+        final List<SegmentedBuffer<INPUT>> parts = new ArrayList<>();
+        final List<@Nullable GrowableBuffer<INPUT>> buckets;
+
+        State(final RandomGenerator random, final int buckets) {
+            this.random = random;
+            this.buckets = new ArrayList<>(Collections.nCopies(buckets, null));
+            parts.add(inputs);
+        }
     }
 }
@@ -17,10 +17,9 @@
 package com.ginsberg.gatherers4j;
 
 import com.ginsberg.gatherers4j.enums.Size;
+import com.ginsberg.gatherers4j.util.SegmentedBuffer;
 import org.jspecify.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
@@ -75,8 +74,11 @@ public class SizeGatherer<INPUT extends @Nullable Object>
     @Override
     public BiConsumer<State<INPUT>, Downstream<? super INPUT>> finisher() {
         return (state, downstream) -> {
+            if (state.passThrough) {
+                return;
+            }
             if (!state.failed && operation.accept(state.elements.size(), targetSize)) {
-                pushAll(state.elements, downstream);
+                pushAll(state.elements.iterator(), downstream);
             } else {
                 pushAll(orElse.get(), downstream);
             }
@@ -91,8 +93,18 @@ public class SizeGatherer<INPUT extends @Nullable Object>
     @Override
     public Integrator<State<INPUT>, INPUT, INPUT> integrator() {
         return (state, element, downstream) -> {
+            if (state.passThrough) {
+                return downstream.push(element);
+            }
             if (operation.tryAccept(state.elements.size() + 1, targetSize)) {
                 state.elements.add(element);
+                if (operation.isSettled(state.elements.size(), targetSize)) {
+                    // No matter what comes next the stream is accepted, so stop holding elements back
+                    state.passThrough = true;
+                    pushAll(state.elements.iterator(), downstream);
+                    state.elements.clear();
+                    return !downstream.isRejecting();
+                }
             } else {
                 state.failed = true;
             }
@@ -102,6 +114,7 @@ public class SizeGatherer<INPUT extends @Nullable Object>
 
     public static class State<INPUT> {
         boolean failed = false;
-        final List<INPUT> elements = new ArrayList<>();
+        boolean passThrough = false;
+        final SegmentedBuffer<INPUT> elements = new SegmentedBuffer<>();
     }
 }
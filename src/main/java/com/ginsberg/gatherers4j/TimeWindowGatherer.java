@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.TimeWindow;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+public class TimeWindowGatherer<INPUT extends @Nullable Object>
+        implements Gatherer<INPUT, TimeWindowGatherer.State<INPUT>, TimeWindow<INPUT>> {
+
+    private static final int MAX_INITIAL_PANES = 1024;
+
+    private final ToLongFunction<INPUT> timestampFunction;
+    private final long size;
+    private final long hop;
+    private long watermarkLag = 0;
+
+    TimeWindowGatherer(final Duration size, final Duration hop, final ToLongFunction<INPUT> timestampFunction) {
+        mustNotBeNull(size, "Size must not be null");
+        mustNotBeNull(hop, "Hop must not be null");
+        if (size.toMillis() < 1) {
+            throw new IllegalArgumentException("Minimum size is 1ms");
+        }
+        if (hop.toMillis() < 1) {
+            throw new IllegalArgumentException("Minimum hop is 1ms");
+        }
+        this.timestampFunction = mustNotBeNull(timestampFunction, "Timestamp function must not be null");
+        this.size = size.toMillis();
+        this.hop = hop.toMillis();
+    }
+
+    /// Tolerate elements that arrive out of order by up to `lag`. A window is only closed and
+    /// emitted once the watermark (the largest timestamp seen so far, minus `lag`) has passed its end.
+    /// Elements arriving after all of their windows have been emitted are dropped. The default lag is zero.
+    ///
+    /// @param lag A non-null, non-negative `Duration`
+    public TimeWindowGatherer<INPUT> withWatermarkLag(final Duration lag) {
+        mustNotBeNull(lag, "Lag must not be null");
+        if (lag.isNegative()) {
+            throw new IllegalArgumentException("Lag must not be negative");
+        }
+        this.watermarkLag = lag.toMillis();
+        return this;
+    }
+
+    @Override
+    public Supplier<State<INPUT>> initializer() {
+        return () -> new State<>(size, hop, watermarkLag);
+    }
+
+    @Override
+    public Integrator<State<INPUT>, INPUT, TimeWindow<INPUT>> integrator() {
+        return Integrator.ofGreedy((state, element, downstream) -> {
+            state.add(element, timestampFunction.applyAsLong(element), downstream);
+            return !downstream.isRejecting();
+        });
+    }
+
+    @Override
+    public BiConsumer<State<INPUT>, Downstream<? super TimeWindow<INPUT>>> finisher() {
+        return (state, downstream) -> {
+            while (state.buffered > 0 && !downstream.isRejecting()) {
+                state.emitNextWindow(downstream);
+            }
+        };
+    }
+
+    // Elements are kept in panes, each `paneSize` wide, which is the largest unit that both
+    // window boundaries and hop boundaries fall on. Panes live in a ring indexed from `basePane`,
+    // the first pane of the oldest window not yet emitted, so the ring only ever spans open windows.
+    public static class State<INPUT extends @Nullable Object> {
+        final long size;
+        final long hop;
+        final long lag;
+        final long paneSize;
+        @Nullable List<INPUT>[] panes;
+        int mask;
+        long basePane;
+        long nextWindow;
+        long maxTimestamp = Long.MIN_VALUE;
+        long buffered = 0;
+        boolean started = false;
+
+        State(final long size, final long hop, final long lag) {
+            this.size = size;
+            this.hop = hop;
+            this.lag = lag;
+            this.paneSize = gcd(size, hop);
+            final long spanned = (size + hop + lag) / paneSize + 1;
+            this.panes = newPanes((int) Math.min(MAX_INITIAL_PANES, Long.highestOneBit(spanned) << 1));
+            this.mask = panes.length - 1;
+        }
+
+        void add(final INPUT element, final long timestamp, final Downstream<? super TimeWindow<INPUT>> downstream) {
+            if (!started) {
+                started = true;
+                rebase(firstWindowEndingAfter(timestamp - lag));
+            }
+            if (timestamp > maxTimestamp) {
+                // Anything closed by the new watermark ends at or before this timestamp,
+                // so it is safe to emit before storing this element.
+                maxTimestamp = timestamp;
+                closeWindowsThrough(timestamp - lag, downstream);
+            }
+            if (timestamp < nextWindow * hop || timestamp - Math.floorDiv(timestamp, hop) * hop >= size) {
+                // Every window this element belongs to has been emitted, or it falls between windows
+                return;
+            }
+            final long pane = Math.floorDiv(timestamp, paneSize);
+            if (pane - basePane >= panes.length) {
+                grow(pane - basePane + 1);
+            }
+            final int slot = (int) (pane & mask);
+            List<INPUT> contents = panes[slot];
+            if (contents == null) {
+                contents = new ArrayList<>();
+                panes[slot] = contents;
+            }
+            contents.add(element);
+            buffered++;
+        }
+
+        void closeWindowsThrough(final long watermark, final Downstream<? super TimeWindow<INPUT>> downstream) {
+            while (nextWindow * hop + size <= watermark && !downstream.isRejecting()) {
+                if (buffered == 0) {
+                    // Nothing is held, skip directly past any empty windows.
+                    rebase(Math.max(nextWindow, firstWindowEndingAfter(watermark)));
+                    return;
+                }
+                emitNextWindow(downstream);
+            }
+        }
+
+        void emitNextWindow(final Downstream<? super TimeWindow<INPUT>> downstream) {
+            final long start = nextWindow * hop;
+            // Nothing is stored beyond the end of the ring, so there is no need to look there.
+            final long lastPane = Math.min(Math.floorDiv(start + size, paneSize), basePane + panes.length);
+            int count = 0;
+            for (long pane = basePane; pane < lastPane; pane++) {
+                final List<INPUT> contents = panes[(int) (pane & mask)];
+                if (contents != null) {
+                    count += contents.size();
+                }
+            }
+            if (count > 0) {
+                final List<INPUT> elements = new ArrayList<>(count);
+                for (long pane = basePane; pane < lastPane; pane++) {
+                    final List<INPUT> contents = panes[(int) (pane & mask)];
+                    if (contents != null) {
+                        elements.addAll(contents);
+                    }
+                }
+                downstream.push(new TimeWindow<>(start, start + size, Collections.unmodifiableList(elements)));
+            }
+            rebase(nextWindow + 1);
+        }
+
+        // Move to the given window, releasing any panes no longer covered by an open window.
+        private void rebase(final long window) {
+            final long newBase = Math.floorDiv(window * hop, paneSize);
+            if (buffered > 0) {
+                for (long pane = basePane; pane < newBase && pane - basePane < panes.length; pane++) {
+                    final int slot = (int) (pane & mask);
+                    final List<INPUT> contents = panes[slot];
+                    if (contents != null) {
+                        buffered -= contents.size();
+                        panes[slot] = null;
+                    }
+                }
+            }
+            nextWindow = window;
+            basePane = newBase;
+        }
+
+        private void grow(final long minimumCapacity) {
+            if (minimumCapacity > (1 << 30)) {
+                throw new IllegalStateException("Too many open time windows, consider a smaller watermark lag");
+            }
+            final @Nullable List<INPUT>[] grown = newPanes(Integer.highestOneBit((int) minimumCapacity - 1) << 1);
+            final int newMask = grown.length - 1;
+            for (long pane = basePane; pane < basePane + panes.length; pane++) {
+                grown[(int) (pane & newMask)] = panes[(int) (pane & mask)];
+            }
+            panes = grown;
+            mask = newMask;
+        }
+
+        private long firstWindowEndingAfter(final long timestamp) {
+            return Math.floorDiv(timestamp - size, hop) + 1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <INPUT extends @Nullable Object> @Nullable List<INPUT>[] newPanes(final int capacity) {
+            return (List<INPUT>[]) new List[Math.max(2, capacity)];
+        }
+
+        private static long gcd(final long a, final long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+    }
+}
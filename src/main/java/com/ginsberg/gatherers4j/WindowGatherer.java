@@ -19,8 +19,12 @@ package com.ginsberg.gatherers4j;
 import com.ginsberg.gatherers4j.util.CircularBuffer;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
 
@@ -30,6 +34,7 @@ public class WindowGatherer<INPUT extends @Nullable Object>
     private final boolean includePartials;
     private final int stepping;
     private final int windowSize;
+    private boolean parallel = false;
 
     WindowGatherer(final int windowSize, final int stepping, final boolean includePartials) {
         if (windowSize <= 0) {
@@ -43,45 +48,143 @@ public class WindowGatherer<INPUT extends @Nullable Object>
         this.includePartials = includePartials;
     }
 
+    /// Allow this gatherer to run in parallel when used in a parallel stream. Each split of the stream
+    /// is buffered separately, and windows are cut from the buffered splits in encounter order
+    /// once all splits have been combined. Windows that fall entirely within a single split share
+    /// its buffer rather than being copied, which makes this especially efficient for tumbling
+    /// windows, where `stepping` is equal to `windowSize`.
+    ///
+    /// Note: No windows are emitted until the end of the stream, even in a sequential stream,
+    /// so this will not work on infinite streams. By default, this gatherer runs sequentially
+    /// and emits each window as soon as it is complete.
+    public WindowGatherer<INPUT> withParallelSupport() {
+        parallel = true;
+        return this;
+    }
+
     @Override
     public Supplier<State<INPUT>> initializer() {
-        return () -> new State<>(windowSize);
+        return () -> new State<>(windowSize, parallel);
     }
 
     @Override
     public Integrator<State<INPUT>, INPUT, List<INPUT>> integrator() {
+        if (parallel) {
+            return Integrator.ofGreedy((state, element, downstream) -> {
+                state.segments.getLast().add(element);
+                return !downstream.isRejecting();
+            });
+        }
         return Integrator.ofGreedy((state, element, downstream) -> {
+            final CircularBuffer<INPUT> window = state.window();
             if (state.stepDelta == 0) {
-                state.window.add(element);
+                window.add(element);
             } else {
                 state.stepDelta--;
             }
-            if (state.window.size() == windowSize) {
-                downstream.push(state.window.asList());
+            if (window.size() == windowSize) {
+                downstream.push(window.asList());
                 state.stepDelta = Math.max(0, stepping - windowSize);
-                state.window.drop(stepping);
+                window.drop(stepping);
             }
             return !downstream.isRejecting();
         });
     }
 
+    @Override
+    public BinaryOperator<State<INPUT>> combiner() {
+        if (!parallel) {
+            return Gatherer.defaultCombiner();
+        }
+        return (left, right) -> {
+            left.segments.addAll(right.segments);
+            return left;
+        };
+    }
+
     @Override
     public BiConsumer<State<INPUT>, Downstream<? super List<INPUT>>> finisher() {
         return (inputState, downstream) -> {
-            if (includePartials) {
-                while (!inputState.window.isEmpty()) {
-                    downstream.push(inputState.window.asList());
-                    inputState.window.drop(stepping);
+            if (parallel) {
+                pushSegmentWindows(inputState.segments, downstream);
+            } else if (includePartials) {
+                final CircularBuffer<INPUT> window = inputState.window();
+                while (!window.isEmpty() && !downstream.isRejecting()) {
+                    downstream.push(window.asList());
+                    window.drop(stepping);
                 }
             }
         };
     }
 
+    // Cut windows from the buffered segments, which are in encounter order. Window starts only ever
+    // move forward, so the segment holding the start of each window can be tracked with a cursor.
+    private void pushSegmentWindows(
+            final List<List<INPUT>> segments,
+            final Downstream<? super List<INPUT>> downstream
+    ) {
+        long count = 0;
+        for (final List<INPUT> segment : segments) {
+            count += segment.size();
+        }
+        int segmentIndex = 0;
+        long segmentStart = 0;
+        for (long start = 0; start < count && !downstream.isRejecting(); start += stepping) {
+            final long end = Math.min(start + windowSize, count);
+            if (end - start < windowSize && !includePartials) {
+                return;
+            }
+            while (segmentStart + segments.get(segmentIndex).size() <= start) {
+                segmentStart += segments.get(segmentIndex).size();
+                segmentIndex++;
+            }
+            final List<INPUT> segment = segments.get(segmentIndex);
+            if (end <= segmentStart + segment.size()) {
+                downstream.push(Collections.unmodifiableList(
+                        segment.subList((int) (start - segmentStart), (int) (end - segmentStart))
+                ));
+            } else {
+                downstream.push(Collections.unmodifiableList(copyAcross(segments, segmentIndex, (int) (start - segmentStart), (int) (end - start))));
+            }
+        }
+    }
+
+    // Copy a window that straddles the boundary between two or more segments.
+    private List<INPUT> copyAcross(
+            final List<List<INPUT>> segments,
+            final int firstSegment,
+            final int offset,
+            final int length
+    ) {
+        final List<INPUT> window = new ArrayList<>(length);
+        int from = offset;
+        for (int i = firstSegment; window.size() < length; i++) {
+            final List<INPUT> segment = segments.get(i);
+            final int to = Math.min(segment.size(), from + length - window.size());
+            window.addAll(segment.subList(from, to));
+            from = 0;
+        }
+        return window;
+    }
+
+    // Sequential windows are built in `window`, and parallel segments are buffered in `segments`,
+    // so only the one in use is allocated.
     public static class State<INPUT> {
         int stepDelta = 0;
-        final CircularBuffer<INPUT> window;
-        State(int capacity) {
-            this.window = new CircularBuffer<>(capacity);
+        final @Nullable CircularBuffer<INPUT> window;
+        final List<List<INPUT>> segments = new ArrayList<>();
+
+        State(final int capacity, final boolean parallel) {
+            if (parallel) {
+                this.window = null;
+                segments.add(new ArrayList<>());
+            } else {
+                this.window = new CircularBuffer<>(capacity);
+            }
+        }
+
+        CircularBuffer<INPUT> window() {
+            return Objects.requireNonNull(window);
         }
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.dto;
+
+import org.jspecify.annotations.Nullable;
+
+/// An estimate of how often a `value` has occurred. The true number of occurrences is at most `count`,
+/// and at least `count - error`.
+///
+/// @param value The value being counted
+/// @param count The estimated number of occurrences, which is never less than the true number
+/// @param error The most by which `count` may overestimate the true number of occurrences
+public record HeavyHitter<VALUE extends @Nullable Object>(
+        @Nullable VALUE value,
+        long count,
+        long error
+) {
+}
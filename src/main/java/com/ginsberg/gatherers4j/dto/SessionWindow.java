@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.dto;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/// A session of elements sharing a `key`, covering the half-open time range `[start, end)`.
+///
+/// @param key The key shared by every element in the session
+/// @param start Timestamp of the earliest element in the session
+/// @param end Timestamp of the latest element in the session plus the gap, when the session expired
+/// @param elements The elements in the session in encounter order, never empty
+public record SessionWindow<KEY extends @Nullable Object, VALUE extends @Nullable Object>(
+        @Nullable KEY key,
+        long start,
+        long end,
+        List<VALUE> elements
+) {
+}
@@ -33,12 +33,22 @@ public enum Size {
         public boolean accept(long length, long target) {
             return length > target;
         }
+
+        @Override
+        public boolean isSettled(long length, long target) {
+            return length > target;
+        }
     },
     GreaterThanOrEqualTo {
         @Override
         public boolean accept(long length, long target) {
             return length >= target;
         }
+
+        @Override
+        public boolean isSettled(long length, long target) {
+            return length >= target;
+        }
     },
     LessThan {
         @Override
@@ -60,4 +70,9 @@ public enum Size {
     public boolean tryAccept(long length, long target) {
         return true;
     }
+
+    /// Whether a stream of at least `length` elements is accepted, no matter how many more elements follow.
+    public boolean isSettled(long length, long target) {
+        return false;
+    }
 }
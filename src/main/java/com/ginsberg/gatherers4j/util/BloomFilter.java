@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import java.util.function.Supplier;
+
+/// A blocked Bloom filter over 64-bit hashes. Bits are grouped into 512-bit blocks (one cache line),
+/// and every bit for a given hash is set within a single block, so each lookup touches one cache line.
+/// Blocked filters need a few more bits than a standard Bloom filter for the same false positive rate,
+/// which is accounted for when sizing.
+public class BloomFilter {
+    private static final int BLOCK_BITS = 512;
+    private static final int LONGS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+    private static final long MAX_BLOCKS = Integer.MAX_VALUE / LONGS_PER_BLOCK;
+    private static final int MAX_HASHES = 16;
+    // Bit positions within a block are taken 9 bits at a time from a stream of hashes. Double hashing
+    // would be cheaper, but within a block this small it roughly doubles the false positive rate.
+    private static final int POSITION_BITS = Integer.numberOfTrailingZeros(BLOCK_BITS);
+    private static final int POSITIONS_PER_LONG = Long.SIZE / POSITION_BITS;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long[] bits;
+    private final int blocks;
+    private final int hashes;
+
+    /// Create a filter sized to hold `expectedInsertions` hashes with roughly the given false positive rate.
+    ///
+    /// @param expectedInsertions The number of distinct hashes expected, must be positive
+    /// @param falsePositiveRate  The desired false positive rate, greater than 0 and less than 1
+    public BloomFilter(final long expectedInsertions, final double falsePositiveRate) {
+        final double bitsPerKey = bitsPerKey(expectedInsertions, falsePositiveRate);
+        this.blocks = (int) Math.max(1, Math.ceil(bitsPerKey * expectedInsertions / BLOCK_BITS));
+        this.hashes = bestHashCount(BLOCK_BITS / bitsPerKey);
+        this.bits = new long[blocks * LONGS_PER_BLOCK];
+    }
+
+    /// Validate the arguments up front, and supply a new filter each time one is needed.
+    public static Supplier<BloomFilter> supplier(final long expectedInsertions, final double falsePositiveRate) {
+        bitsPerKey(expectedInsertions, falsePositiveRate);
+        return () -> new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // Blocks fill unevenly, and the fuller ones produce more than their share of false positives, so a
+    // blocked filter needs more bits than a standard one. Start from the standard size and grow until
+    // the expected rate for a blocked filter is low enough.
+    private static double bitsPerKey(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be greater than 0 and less than 1");
+        }
+        final double log2 = Math.log(2);
+        double bitsPerKey = -Math.log(falsePositiveRate) / (log2 * log2);
+        while (blockedFalsePositiveRate(BLOCK_BITS / bitsPerKey) > falsePositiveRate) {
+            bitsPerKey *= 1.02;
+        }
+        if (Math.ceil(bitsPerKey * expectedInsertions / BLOCK_BITS) > MAX_BLOCKS) {
+            throw new IllegalArgumentException("Too many expected insertions for this false positive rate");
+        }
+        return bitsPerKey;
+    }
+
+    private static int bestHashCount(final double keysPerBlock) {
+        int best = 1;
+        for (int hashes = 2; hashes <= MAX_HASHES; hashes++) {
+            if (blockedFalsePositiveRate(keysPerBlock, hashes) < blockedFalsePositiveRate(keysPerBlock, best)) {
+                best = hashes;
+            }
+        }
+        return best;
+    }
+
+    private static double blockedFalsePositiveRate(final double keysPerBlock) {
+        return blockedFalsePositiveRate(keysPerBlock, bestHashCount(keysPerBlock));
+    }
+
+    // The number of keys in a block is Poisson distributed, so weight the rate of a standard
+    // filter the size of one block by the chance of each block load.
+    private static double blockedFalsePositiveRate(final double keysPerBlock, final int hashes) {
+        final double unsetPerHash = 1.0 - 1.0 / BLOCK_BITS;
+        final int limit = (int) (keysPerBlock + 12 * Math.sqrt(keysPerBlock) + 12);
+        double probability = Math.exp(-keysPerBlock);
+        double rate = 0;
+        for (int keys = 0; keys <= limit; keys++) {
+            rate += probability * Math.pow(1 - Math.pow(unsetPerHash, (double) hashes * keys), hashes);
+            probability *= keysPerBlock / (keys + 1);
+        }
+        return rate;
+    }
+
+    /// Add a hash to the filter.
+    ///
+    /// @return `true` if the hash was definitely not in the filter before, `false` if it might have been
+    public boolean add(final long hash) {
+        final long mixed = Hashing.mix(hash);
+        final int base = (int) Math.floorMod(mixed, (long) blocks) * LONGS_PER_BLOCK;
+        long positions = Hashing.mix(mixed + GOLDEN_GAMMA);
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            if (i > 0 && i % POSITIONS_PER_LONG == 0) {
+                positions = Hashing.mix(positions + GOLDEN_GAMMA);
+            }
+            final int bit = (int) (positions >>> (i % POSITIONS_PER_LONG * POSITION_BITS)) & (BLOCK_BITS - 1);
+            final int index = base + (bit >>> 6);
+            final long mask = 1L << bit;
+            if ((bits[index] & mask) == 0) {
+                bits[index] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    /// @return `true` if the hash might have been added, `false` if it definitely has not been
+    public boolean mightContain(final long hash) {
+        final long mixed = Hashing.mix(hash);
+        final int base = (int) Math.floorMod(mixed, (long) blocks) * LONGS_PER_BLOCK;
+        long positions = Hashing.mix(mixed + GOLDEN_GAMMA);
+        for (int i = 0; i < hashes; i++) {
+            if (i > 0 && i % POSITIONS_PER_LONG == 0) {
+                positions = Hashing.mix(positions + GOLDEN_GAMMA);
+            }
+            final int bit = (int) (positions >>> (i % POSITIONS_PER_LONG * POSITION_BITS)) & (BLOCK_BITS - 1);
+            if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// @return The size of the filter, in bits
+    public long bitSize() {
+        return (long) bits.length * Long.SIZE;
+    }
+
+    /// @return The number of bits set for each hash
+    public int hashCount() {
+        return hashes;
+    }
+}
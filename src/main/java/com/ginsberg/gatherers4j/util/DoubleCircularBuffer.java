@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/// A circular buffer of `double` values, which evicts the oldest value when adding to a full buffer.
+public class DoubleCircularBuffer extends PrimitiveCircularBuffer<double[]> {
+    private final double[] values;
+
+    public DoubleCircularBuffer(final int capacity) {
+        super(capacity);
+        this.values = storage();
+    }
+
+    @Override
+    protected double[] newArray(final int length) {
+        return new double[length];
+    }
+
+    public void add(final double value) {
+        values[(head + size) & mask] = value;
+        added();
+    }
+
+    /// Add `length` values from `source`, starting at `offset`, as if each had been added in turn.
+    public void addAll(final double[] source, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        addAllFrom(source, offset, length);
+    }
+
+    /// Get the value at `index`, where the oldest value is at index zero.
+    public double get(final int index) {
+        Objects.checkIndex(index, size);
+        return values[(head + index) & mask];
+    }
+
+    public double removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final double value = values[head];
+        head = (head + 1) & mask;
+        size--;
+        return value;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+
+/// A buffer that grows as elements are added to its end, and which can be read back any number of times,
+/// in whole or in part, and in either direction. This interface only adds elements, but implementations
+/// may also remove them (see `SegmentedBuffer`). Buffers may hold resources such as files, which are
+/// released by `close()`.
+public interface GrowableBuffer<T extends @Nullable Object> extends Iterable<T>, AutoCloseable {
+
+    void add(T element);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /// Iterate over the elements from index `from` (inclusive) to `to` (exclusive).
+    Iterator<T> iterator(int from, int to);
+
+    Iterator<T> descendingIterator();
+
+    @Override
+    default Iterator<T> iterator() {
+        return iterator(0, size());
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.UUID;
+
+public final class Hashing {
+    // Every type is hashed with its own tag, so that equal bits from different types (such as `5` and `5L`) do not
+    // collide. These are successive multiples of the golden ratio, so no two of them are close.
+    private static final long NULL = 0x9E3779B97F4A7C15L;
+    private static final long LONG = NULL * 2;
+    private static final long INTEGER = NULL * 3;
+    private static final long SHORT = NULL * 4;
+    private static final long BYTE = NULL * 5;
+    private static final long CHARACTER = NULL * 6;
+    private static final long BOOLEAN = NULL * 7;
+    private static final long DOUBLE = NULL * 8;
+    private static final long FLOAT = NULL * 9;
+    private static final long CHAR_SEQUENCE = NULL * 10;
+    private static final long UUID_TAG = NULL * 11;
+    private static final long ENUM = NULL * 12;
+    private static final long LIST = NULL * 13;
+    private static final long OBJECT = NULL * 14;
+
+    private Hashing() {
+    }
+
+    /// Hash an object to 64 bits. `Object::hashCode()` only has 32 bits, which collide often across hundreds of millions
+    /// of keys, so these types are hashed on their entire contents instead:
+    ///
+    /// * `Long`, `Integer`, `Short`, `Byte`, `Character`, `Boolean`, `Double`, and `Float`
+    /// * `CharSequence` (including `String`)
+    /// * `UUID`
+    /// * `Enum`, by its class and constant names
+    /// * `List`, by the hash of each element, in order
+    ///
+    /// Each type is hashed differently, so `null`, `0`, and `0L` all have different hashes, and no two distinct
+    /// values of the same boxed primitive type (such as two `Long`s) ever share a hash. Other values of the same type, and
+    /// values of different types, collide with a chance of about one in 2^64 per pair.
+    ///
+    /// These hashes are also the same from one run to the next, which is not true of `hashCode()` for every type.
+    /// Other types still only contribute the 32 bits of their `hashCode()`, so callers that need to tell apart very
+    /// large numbers of them should map them to one of the types above first.
+    public static long hash(final @Nullable Object key) {
+        if (key == null) {
+            return mix(NULL);
+        } else if (key instanceof Long value) {
+            return mix(LONG ^ value);
+        } else if (key instanceof Integer value) {
+            return mix(INTEGER ^ value);
+        } else if (key instanceof Short value) {
+            return mix(SHORT ^ value);
+        } else if (key instanceof Byte value) {
+            return mix(BYTE ^ value);
+        } else if (key instanceof Character value) {
+            return mix(CHARACTER ^ value);
+        } else if (key instanceof Boolean value) {
+            return mix(BOOLEAN ^ (value ? 1 : 0));
+        } else if (key instanceof Double value) {
+            return mix(DOUBLE ^ Double.doubleToLongBits(value));
+        } else if (key instanceof Float value) {
+            return mix(FLOAT ^ Float.floatToIntBits(value));
+        } else if (key instanceof CharSequence value) {
+            return mix(CHAR_SEQUENCE ^ fnv1a(value));
+        } else if (key instanceof UUID value) {
+            return mix(mix(UUID_TAG ^ value.getMostSignificantBits()) ^ value.getLeastSignificantBits());
+        } else if (key instanceof Enum<?> value) {
+            return mix(mix(ENUM ^ fnv1a(value.getDeclaringClass().getName())) ^ fnv1a(value.name()));
+        } else if (key instanceof List<?> value) {
+            long hash = LIST ^ value.size();
+            for (final Object element : value) {
+                hash = mix(hash ^ hash(element));
+            }
+            return hash;
+        }
+        return mix(OBJECT ^ key.hashCode());
+    }
+
+    // 64-bit FNV-1a
+    private static long fnv1a(final CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // The MurmurHash3 finalizer, so that keys with few significant bits still spread over every bucket.
+    public static long mix(final long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+/// A set of `long` values, stored in a single array with open addressing and linear probing, so that
+/// adding a value neither boxes it nor allocates a node. Each slot takes 8 bytes, and the table doubles when
+/// it is 3/4 full, so it is kept between 3/8 and 3/4 full. That works out to between about 11 bytes per value
+/// (just before growing) and about 21 (just after), not a fixed amount below 16.
+public class LongHashSet implements LongSet {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Zero marks an empty slot, so whether the set contains zero is tracked separately.
+    private long[] table = new long[MIN_CAPACITY];
+    private int mask = MIN_CAPACITY - 1;
+    private int size = 0;
+    private boolean containsZero = false;
+
+    @Override
+    public boolean add(final long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = (int) Hashing.mix(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        if (++size > table.length - (table.length >>> 2)) {
+            grow();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(final long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int slot = (int) Hashing.mix(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    private void grow() {
+        if (table.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Set is too large");
+        }
+        final long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+        for (final long value : old) {
+            if (value != 0) {
+                int slot = (int) Hashing.mix(value) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+/// A map of `long` keys to `int` values, stored in parallel arrays with open addressing and linear
+/// probing, so that neither keys nor values are boxed and no node is allocated per entry. Each slot takes
+/// 12 bytes, and the table doubles when it is 3/4 full, so it is kept between 3/8 and 3/4 full. That works out
+/// to between 16 bytes per entry (just before growing) and 32 (just after).
+public class LongIntHashMap {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Zero marks an empty slot, so the entry for a zero key is held separately.
+    private long[] keys = new long[MIN_CAPACITY];
+    private int[] values = new int[MIN_CAPACITY];
+    private int mask = MIN_CAPACITY - 1;
+    private int size = 0;
+    private boolean containsZero = false;
+    private int zeroValue;
+
+    /// @return The value for `key`, or `missing` if there is none
+    public int get(final long key, final int missing) {
+        if (key == 0) {
+            return containsZero ? zeroValue : missing;
+        }
+        int slot = (int) Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missing;
+    }
+
+    /// Set the value for `key`, replacing any value already there.
+    public void put(final long key, final int value) {
+        if (key == 0) {
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int slot = (int) Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length - (keys.length >>> 2)) {
+            grow();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Map is too large");
+        }
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new int[oldKeys.length << 1];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = (int) Hashing.mix(oldKeys[i]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+/// A set of `long` values. Sets may hold resources such as off-heap memory, which are released by `close()`.
+public interface LongSet extends AutoCloseable {
+
+    /// Add a value to the set.
+    ///
+    /// @return `true` if the value was not already in the set
+    boolean add(long value);
+
+    boolean contains(long value);
+
+    long size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+
+/// A map of object keys to `long` values, stored in parallel arrays with open addressing and linear
+/// probing, so that values are never boxed and no node is allocated per entry. Keys may be null.
+/// The table is kept between 3/8 and 3/4 full.
+public class ObjectLongHashMap<KEY extends @Nullable Object> {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Null marks an empty slot, so a null key is stored as this marker instead.
+    private static final Object NULL_KEY = new Object();
+
+    private @Nullable Object[] keys = new Object[MIN_CAPACITY];
+    private long[] values = new long[MIN_CAPACITY];
+    private int mask = MIN_CAPACITY - 1;
+    private int size = 0;
+
+    /// @return The value for `key`, or `missing` if there is none
+    public long get(final KEY key, final long missing) {
+        final Object stored = key == null ? NULL_KEY : key;
+        int slot = slotFor(stored);
+        while (keys[slot] != null) {
+            if (Objects.equals(keys[slot], stored)) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missing;
+    }
+
+    /// Add `delta` to the value for `key`, treating a missing value as zero.
+    ///
+    /// @return The new value for `key`
+    public long add(final KEY key, final long delta) {
+        final Object stored = key == null ? NULL_KEY : key;
+        int slot = slotFor(stored);
+        while (keys[slot] != null) {
+            if (Objects.equals(keys[slot], stored)) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = stored;
+        values[slot] = delta;
+        if (++size > keys.length - (keys.length >>> 2)) {
+            grow();
+        }
+        return delta;
+    }
+
+    /// Give every entry to `action`, in no particular order.
+    @SuppressWarnings("unchecked")
+    public void forEach(final ObjLongConsumer<? super KEY> action) {
+        for (int i = 0; i < keys.length; i++) {
+            final Object key = keys[i];
+            if (key != null) {
+                action.accept(key == NULL_KEY ? null : (KEY) key, values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int slotFor(final Object key) {
+        return (int) Hashing.mix(key.hashCode()) & mask;
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Map is too large");
+        }
+        final @Nullable Object[] oldKeys = keys;
+        final long[] oldValues = values;
+        keys = new Object[oldKeys.length << 1];
+        values = new long[oldKeys.length << 1];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final Object key = oldKeys[i];
+            if (key != null) {
+                int slot = slotFor(key);
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.ref.Cleaner;
+
+/// A set of `long` values, stored off-heap in native memory with open addressing and linear probing.
+/// The garbage collector never sees the table, so it does not scan or copy it no matter how large
+/// it grows, and it can hold more than 2^31 values. Each value takes 8 bytes, and the table is kept
+/// between 3/8 and 3/4 full.
+///
+/// Native memory is released when the set is closed, or failing that, once the set becomes unreachable.
+public class OffHeapLongHashSet implements LongSet {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final long MIN_CAPACITY = 1024;
+    private static final long MAX_CAPACITY = 1L << 40;
+
+    private final Memory memory;
+    private final Cleaner.Cleanable cleanable;
+    private MemorySegment table;
+    private long capacity = MIN_CAPACITY;
+    private long mask = MIN_CAPACITY - 1;
+    private long size = 0;
+    // Zero marks an empty slot, so whether the set contains zero is tracked separately.
+    private boolean containsZero = false;
+
+    public OffHeapLongHashSet() {
+        this.memory = new Memory();
+        this.table = memory.allocate(MIN_CAPACITY);
+        this.cleanable = CLEANER.register(this, memory);
+    }
+
+    @Override
+    public boolean add(final long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        long slot = Hashing.mix(value) & mask;
+        long existing;
+        while ((existing = table.getAtIndex(ValueLayout.JAVA_LONG, slot)) != 0) {
+            if (existing == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table.setAtIndex(ValueLayout.JAVA_LONG, slot, value);
+        if (++size > capacity - (capacity >>> 2)) {
+            grow();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(final long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        long slot = Hashing.mix(value) & mask;
+        long existing;
+        while ((existing = table.getAtIndex(ValueLayout.JAVA_LONG, slot)) != 0) {
+            if (existing == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    private void grow() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Set is too large");
+        }
+        final MemorySegment old = table;
+        final long oldCapacity = capacity;
+        final Arena oldArena = memory.arena;
+        capacity <<= 1;
+        mask = capacity - 1;
+        table = memory.allocate(capacity);
+        for (long i = 0; i < oldCapacity; i++) {
+            final long value = old.getAtIndex(ValueLayout.JAVA_LONG, i);
+            if (value != 0) {
+                long slot = Hashing.mix(value) & mask;
+                while (table.getAtIndex(ValueLayout.JAVA_LONG, slot) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table.setAtIndex(ValueLayout.JAVA_LONG, slot, value);
+            }
+        }
+        if (oldArena != null) {
+            oldArena.close();
+        }
+    }
+
+    // Kept separate from the set so the cleaner does not keep the set reachable. Each table gets its
+    // own arena so the old one can be released as soon as it has been copied into a larger one. The
+    // arenas are shared, as a stream may finish (or be cleaned up) on a different thread than it started on.
+    private static class Memory implements Runnable {
+        private @Nullable Arena arena;
+
+        // Memory from an arena is zeroed, which marks every slot empty.
+        MemorySegment allocate(final long slots) {
+            final Arena next = Arena.ofShared();
+            final MemorySegment segment = next.allocate(slots * Long.BYTES, Long.BYTES);
+            arena = next;
+            return segment;
+        }
+
+        @Override
+        public void run() {
+            final Arena current = arena;
+            if (current != null) {
+                arena = null;
+                current.close();
+            }
+        }
+    }
+}
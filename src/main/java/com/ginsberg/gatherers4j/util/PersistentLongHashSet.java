@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.ref.Cleaner;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/// A set of `long` values kept in a memory-mapped file, so that it survives from one run to the next.
+/// Opening an existing file maps it rather than reading it, so it is ready immediately no matter how large it is.
+///
+/// The file holds a series of open-addressing hash tables (segments), each twice the size of the one
+/// before it. Values are added to the newest segment, and once that is 3/4 full, a new segment is
+/// appended to the file. Existing segments are never rehashed, so growing the set never rewrites
+/// the file. Looking up a value probes each segment, newest first.
+///
+/// The file is locked while open. Changes are flushed to disk when the set is closed, and the
+/// operating system will also write them back if the process ends without closing it. The file is
+/// unmapped and unlocked when the set is closed, or failing that, once the set becomes unreachable.
+public class PersistentLongHashSet implements LongSet {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final long MAGIC = 0x4734_4A44_4544_5550L;
+    private static final long VERSION = 1;
+    private static final int MAX_SEGMENTS = 32;
+    private static final long FIRST_SEGMENT_SLOTS = 1 << 16;
+    // Header layout, in longs: magic, version, segment count, contains zero, then the size of each segment.
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 1;
+    private static final int HEADER_SEGMENTS = 2;
+    private static final int HEADER_ZERO = 3;
+    private static final int HEADER_SIZES = 4;
+    private static final long HEADER_BYTES = 4096;
+
+    private final MappedFile file;
+    private final Cleaner.Cleanable cleanable;
+    private final MemorySegment header;
+    private final @Nullable MemorySegment[] segments = new MemorySegment[MAX_SEGMENTS];
+    private int segmentCount;
+    private long size;
+
+    /// Open the set stored at `path`, creating it if it does not exist.
+    ///
+    /// @throws IllegalStateException if the file is in use or is not a set written by this class
+    public PersistentLongHashSet(final Path path) {
+        this.file = MappedFile.open(path);
+        this.cleanable = CLEANER.register(this, file);
+        try {
+            final long existingLength = file.length();
+            if (existingLength > 0 && existingLength < HEADER_BYTES) {
+                throw new IllegalStateException("File is not a persistent set: " + path);
+            }
+            this.header = file.map(0, HEADER_BYTES);
+            if (header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_MAGIC) == 0) {
+                header.setAtIndex(ValueLayout.JAVA_LONG, HEADER_VERSION, VERSION);
+                header.setAtIndex(ValueLayout.JAVA_LONG, HEADER_MAGIC, MAGIC);
+            } else if (header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_MAGIC) != MAGIC
+                    || header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_VERSION) != VERSION) {
+                throw new IllegalStateException("File is not a persistent set: " + path);
+            }
+            segmentCount = (int) header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_SEGMENTS);
+            size = header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_ZERO);
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = file.map(segmentOffset(i), slots(i) * Long.BYTES);
+                size += header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_SIZES + i);
+            }
+            if (segmentCount == 0) {
+                addSegment();
+            }
+        } catch (RuntimeException e) {
+            cleanable.clean();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean add(final long value) {
+        if (value == 0) {
+            if (header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_ZERO) != 0) {
+                return false;
+            }
+            header.setAtIndex(ValueLayout.JAVA_LONG, HEADER_ZERO, 1);
+            size++;
+            return true;
+        }
+        final long hash = Hashing.mix(value);
+        for (int i = segmentCount - 1; i >= 0; i--) {
+            if (find(i, value, hash) >= 0) {
+                return false;
+            }
+        }
+        final int newest = segmentCount - 1;
+        final MemorySegment table = segment(newest);
+        table.setAtIndex(ValueLayout.JAVA_LONG, ~find(newest, value, hash), value);
+        final long segmentSize = header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_SIZES + newest) + 1;
+        header.setAtIndex(ValueLayout.JAVA_LONG, HEADER_SIZES + newest, segmentSize);
+        size++;
+        if (segmentSize > slots(newest) - (slots(newest) >>> 2)) {
+            addSegment();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(final long value) {
+        if (value == 0) {
+            return header.getAtIndex(ValueLayout.JAVA_LONG, HEADER_ZERO) != 0;
+        }
+        final long hash = Hashing.mix(value);
+        for (int i = segmentCount - 1; i >= 0; i--) {
+            if (find(i, value, hash) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    /// Flush changes to disk, then unmap and unlock the file.
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    // The slot holding `value`, or if it is absent, the complement of the empty slot where it would go.
+    private long find(final int index, final long value, final long hash) {
+        final MemorySegment table = segment(index);
+        final long mask = slots(index) - 1;
+        long slot = hash & mask;
+        long existing;
+        while ((existing = table.getAtIndex(ValueLayout.JAVA_LONG, slot)) != 0) {
+            if (existing == value) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    private MemorySegment segment(final int index) {
+        final MemorySegment table = segments[index];
+        if (table == null) {
+            throw new IllegalStateException("Segment " + index + " is not mapped");
+        }
+        return table;
+    }
+
+    private void addSegment() {
+        if (segmentCount == MAX_SEGMENTS) {
+            throw new IllegalStateException("Set is too large");
+        }
+        // Mapping past the end of the file extends it, and the new space reads as zeros, which marks every slot empty.
+        segments[segmentCount] = file.map(segmentOffset(segmentCount), slots(segmentCount) * Long.BYTES);
+        segmentCount++;
+        header.setAtIndex(ValueLayout.JAVA_LONG, HEADER_SEGMENTS, segmentCount);
+    }
+
+    private static long slots(final int index) {
+        return FIRST_SEGMENT_SLOTS << index;
+    }
+
+    private static long segmentOffset(final int index) {
+        return HEADER_BYTES + (slots(index) - FIRST_SEGMENT_SLOTS) * Long.BYTES;
+    }
+
+    // Kept separate from the set so the cleaner does not keep the set reachable.
+    private static class MappedFile implements Runnable {
+        private final FileChannel channel;
+        private final FileLock lock;
+        private final Arena arena = Arena.ofShared();
+        private final List<MemorySegment> mappings = new ArrayList<>();
+        private boolean closed = false;
+
+        private MappedFile(final FileChannel channel, final FileLock lock) {
+            this.channel = channel;
+            this.lock = lock;
+        }
+
+        static MappedFile open(final Path path) {
+            try {
+                final FileChannel channel = FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE
+                );
+                FileLock lock = null;
+                try {
+                    lock = channel.tryLock();
+                } catch (OverlappingFileLockException e) {
+                    // Locked by this process, handled below
+                }
+                if (lock == null) {
+                    channel.close();
+                    throw new IllegalStateException("File is in use: " + path);
+                }
+                return new MappedFile(channel, lock);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        long length() {
+            try {
+                return channel.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        MemorySegment map(final long offset, final long length) {
+            try {
+                final MemorySegment mapped = channel.map(FileChannel.MapMode.READ_WRITE, offset, length, arena);
+                mappings.add(mapped);
+                return mapped;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                for (final MemorySegment mapped : mappings) {
+                    mapped.force();
+                }
+                arena.close();
+                lock.release();
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import java.util.stream.Gatherer;
+
+/// Common bookkeeping for the primitive circular buffers. The backing array is always a power of two
+/// in length so positions can be found with a mask rather than a division, while the buffer itself
+/// holds at most `capacity` values, evicting the oldest as new values are added.
+///
+/// @param <ARRAY> The primitive array type backing the buffer, such as `int[]`
+public abstract class PrimitiveCircularBuffer<ARRAY> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final ARRAY storage;
+    protected final int capacity;
+    protected final int mask;
+    protected int head = 0;
+    protected int size = 0;
+
+    protected PrimitiveCircularBuffer(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than zero");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must not be greater than " + MAX_CAPACITY);
+        }
+        final int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.storage = newArray(length);
+        this.capacity = capacity;
+        this.mask = length - 1;
+    }
+
+    protected abstract ARRAY newArray(final int length);
+
+    /// The backing array, which subclasses keep a typed reference to.
+    protected ARRAY storage() {
+        return storage;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Remove the oldest `n` values, or all values if there are fewer than `n`.
+    public void drop(final int n) {
+        if (n <= 0) {
+            return;
+        }
+        if (n >= size) {
+            head = 0;
+            size = 0;
+            return;
+        }
+        head = (head + n) & mask;
+        size -= n;
+    }
+
+    /// Copy every value into a new array, oldest first, without changing the buffer.
+    public ARRAY toArray() {
+        return copyFirst(size);
+    }
+
+    /// Remove the oldest `n` values, or all values if there are fewer than `n`, and return them in a new array.
+    public ARRAY removeFirst(final int n) {
+        final ARRAY result = copyFirst(Math.max(0, Math.min(n, size)));
+        drop(n);
+        return result;
+    }
+
+    /// Add every value held by `other`, oldest first, as though each had been added in turn.
+    public void append(final PrimitiveCircularBuffer<ARRAY> other) {
+        addAllFrom(other.toArray(), 0, other.size);
+    }
+
+    /// Remove values from the buffer and push them to the `downstream` in arrays of up to `blockSize` values,
+    /// oldest first. The downstream is checked once per block, and draining stops when it is rejecting.
+    ///
+    /// @return `true` if the downstream is still accepting values
+    public boolean drainTo(final Gatherer.Downstream<? super ARRAY> downstream, final int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be greater than zero");
+        }
+        while (size > 0) {
+            if (downstream.isRejecting() || !downstream.push(removeFirst(blockSize))) {
+                return false;
+            }
+        }
+        return !downstream.isRejecting();
+    }
+
+    protected void added() {
+        if (size == capacity) {
+            head = (head + 1) & mask;
+        } else {
+            size++;
+        }
+    }
+
+    // Only the newest `capacity` values can survive, so anything older is never copied.
+    protected void addAllFrom(final ARRAY source, final int offset, final int length) {
+        if (length >= capacity) {
+            System.arraycopy(source, offset + length - capacity, storage, 0, capacity);
+            head = 0;
+            size = capacity;
+            return;
+        }
+        final int tail = (head + size) & mask;
+        final int firstPart = Math.min(length, mask + 1 - tail);
+        System.arraycopy(source, offset, storage, tail, firstPart);
+        System.arraycopy(source, offset + firstPart, storage, 0, length - firstPart);
+        size += length;
+        if (size > capacity) {
+            head = (head + size - capacity) & mask;
+            size = capacity;
+        }
+    }
+
+    private ARRAY copyFirst(final int n) {
+        final ARRAY result = newArray(n);
+        final int firstPart = Math.min(n, mask + 1 - head);
+        System.arraycopy(storage, head, result, 0, firstPart);
+        System.arraycopy(storage, 0, result, firstPart, n - firstPart);
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/// A growable buffer for gatherers that hold on to an entire stream. Elements are stored in
+/// fixed-size segments found through an index, so growing never copies elements that are already
+/// stored and never allocates one very large array. Only the first segment grows by copying, until
+/// it reaches full size, which keeps small buffers small.
+///
+/// Elements can be read by index, iterated in either direction, and removed from the end, either directly
+/// or by swapping them into a position being removed. Segments are released as they are emptied.
+public class SegmentedBuffer<T extends @Nullable Object> implements GrowableBuffer<T> {
+    private static final int SEGMENT_BITS = 12;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int INITIAL_SEGMENT_SIZE = 16;
+    private static final int INITIAL_INDEX_SIZE = 8;
+
+    private @Nullable Object[][] segments = new Object[INITIAL_INDEX_SIZE][];
+    private int size = 0;
+
+    @Override
+    public void add(final T element) {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Buffer is full");
+        }
+        final int segment = size >>> SEGMENT_BITS;
+        final int offset = size & SEGMENT_MASK;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        }
+        @Nullable Object[] target = segments[segment];
+        if (target == null) {
+            target = new Object[segment == 0 ? INITIAL_SEGMENT_SIZE : SEGMENT_SIZE];
+            segments[segment] = target;
+        } else if (offset == target.length) {
+            // Only the first segment is ever smaller than full size
+            target = Arrays.copyOf(target, Math.min(target.length * 2, SEGMENT_SIZE));
+            segments[segment] = target;
+        }
+        target[offset] = element;
+        size++;
+    }
+
+    public T get(final int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(index);
+    }
+
+    public T set(final int index, final T element) {
+        Objects.checkIndex(index, size);
+        final T previous = elementAt(index);
+        segment(index)[index & SEGMENT_MASK] = element;
+        return previous;
+    }
+
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final int last = size - 1;
+        final T element = elementAt(last);
+        final int offset = last & SEGMENT_MASK;
+        if (offset == 0) {
+            segments[last >>> SEGMENT_BITS] = null;
+        } else {
+            segment(last)[offset] = null;
+        }
+        size = last;
+        return element;
+    }
+
+    /// Remove the element at `index` by moving the last element into its place, which is O(1)
+    /// but does not preserve order.
+    public T swapRemove(final int index) {
+        Objects.checkIndex(index, size);
+        final T last = removeLast();
+        return index == size ? last : set(index, last);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(segments, null);
+        size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator(final int from, final int to) {
+        Objects.checkFromToIndex(from, to, size);
+        return new Iterator<>() {
+            private int index = from;
+
+            @Override
+            public boolean hasNext() {
+                return index < to && index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(index++);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return new Iterator<>() {
+            private int index = size - 1;
+
+            @Override
+            public boolean hasNext() {
+                return index >= 0 && index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(index--);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(final int index) {
+        return (T) segment(index)[index & SEGMENT_MASK];
+    }
+
+    private @Nullable Object[] segment(final int index) {
+        return Objects.requireNonNull(segments[index >>> SEGMENT_BITS]);
+    }
+}
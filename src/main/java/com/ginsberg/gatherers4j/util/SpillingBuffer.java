@@ -0,0 +1,304 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import com.ginsberg.gatherers4j.Serializer;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static com.ginsberg.gatherers4j.util.GathererUtils.mustNotBeNull;
+
+/// An append-only buffer that holds elements in serialized form, and writes them to a temporary
+/// file once more than `memoryBudget` bytes would be held in memory. Each time the in-memory chunk
+/// fills, it is written to the end of the file as a segment. Segments are read back through
+/// memory-mapped views, so reading never copies more than one element at a time onto the heap.
+///
+/// Each element is stored as its length, its bytes, and its length again, so segments can
+/// be walked in either direction without keeping an index of where each element starts.
+///
+/// The temporary file is deleted when the buffer is closed, or failing that, once the buffer
+/// is no longer reachable.
+public class SpillingBuffer<T extends @Nullable Object> implements GrowableBuffer<T> {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int INITIAL_CHUNK_SIZE = 8 * 1024;
+    private static final int RECORD_OVERHEAD = 2 * Integer.BYTES;
+
+    private final Serializer<T> serializer;
+    private final int chunkLimit;
+    private final List<Segment> segments = new ArrayList<>();
+    private ByteBuffer chunk;
+    private int chunkCount = 0;
+    private int size = 0;
+    private @Nullable SpillFile file;
+    private Cleaner.@Nullable Cleanable cleanable;
+
+    public SpillingBuffer(final long memoryBudget, final Serializer<T> serializer) {
+        validate(memoryBudget, serializer);
+        this.serializer = serializer;
+        this.chunkLimit = (int) Math.min(memoryBudget, MAX_CHUNK_SIZE);
+        this.chunk = ByteBuffer.allocate(Math.min(chunkLimit, INITIAL_CHUNK_SIZE));
+    }
+
+    /// Validate the arguments up front, and supply a new buffer each time one is needed.
+    public static <T extends @Nullable Object> Supplier<GrowableBuffer<T>> supplier(
+            final long memoryBudget,
+            final Serializer<T> serializer
+    ) {
+        validate(memoryBudget, serializer);
+        return () -> new SpillingBuffer<>(memoryBudget, serializer);
+    }
+
+    private static void validate(final long memoryBudget, final @Nullable Serializer<?> serializer) {
+        if (memoryBudget < 1) {
+            throw new IllegalArgumentException("Memory budget must be positive");
+        }
+        mustNotBeNull(serializer, "Serializer must not be null");
+    }
+
+    @Override
+    public void add(final T element) {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Buffer is full");
+        }
+        final byte[] bytes = serializer.serialize(element);
+        final int recordSize = bytes.length + RECORD_OVERHEAD;
+        if (recordSize < 0 || recordSize > chunkLimit) {
+            // Too big to ever fit in memory, so it gets a segment of its own
+            spill();
+            final ByteBuffer record = ByteBuffer.allocate(recordSize);
+            putRecord(record, bytes);
+            write(record.flip(), 1);
+        } else {
+            if (chunk.position() + recordSize > chunkLimit) {
+                spill();
+            }
+            if (recordSize > chunk.remaining()) {
+                grow(chunk.position() + recordSize);
+            }
+            putRecord(chunk, bytes);
+            chunkCount++;
+        }
+        size++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /// Whether any elements have been written to disk.
+    public boolean hasSpilled() {
+        return file != null;
+    }
+
+    @Override
+    public Iterator<T> iterator(final int from, final int to) {
+        Objects.checkFromToIndex(from, to, size);
+        return new Iterator<>() {
+            private int segment = 0;
+            private int segmentStart = 0;
+            private @Nullable ByteBuffer view;
+            private int index = from;
+
+            @Override
+            public boolean hasNext() {
+                return index < to;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ByteBuffer current = view;
+                if (current == null || !current.hasRemaining()) {
+                    current = seek();
+                }
+                final int length = current.getInt();
+                final T element = serializer.deserialize(current.slice(current.position(), length).asReadOnlyBuffer());
+                current.position(current.position() + length + Integer.BYTES);
+                index++;
+                return element;
+            }
+
+            // Find the segment holding `index`, and position a view of it at that element.
+            private ByteBuffer seek() {
+                if (view != null) {
+                    segmentStart += countOf(segment++);
+                }
+                while (index >= segmentStart + countOf(segment)) {
+                    segmentStart += countOf(segment++);
+                }
+                final ByteBuffer current = view(segment);
+                for (int skip = index - segmentStart; skip > 0; skip--) {
+                    final int length = current.getInt();
+                    current.position(current.position() + length + Integer.BYTES);
+                }
+                view = current;
+                return current;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return new Iterator<>() {
+            private int segment = segments.size() + 1;
+            private @Nullable ByteBuffer view;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ByteBuffer current = view;
+                while (current == null || current.position() == 0) {
+                    current = view(--segment);
+                    current.position(current.limit());
+                }
+                view = current;
+                final int end = current.position() - Integer.BYTES;
+                final int length = current.getInt(end);
+                final int start = end - length;
+                final T element = serializer.deserialize(current.slice(start, length).asReadOnlyBuffer());
+                current.position(start - Integer.BYTES);
+                remaining--;
+                return element;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (cleanable != null) {
+            cleanable.clean();
+        }
+    }
+
+    private int countOf(final int segment) {
+        return segment < segments.size() ? segments.get(segment).count : chunkCount;
+    }
+
+    // The segments on disk come first, followed by the chunk still held in memory.
+    private ByteBuffer view(final int segment) {
+        if (segment == segments.size()) {
+            return chunk.duplicate().flip();
+        }
+        final Segment spilled = segments.get(segment);
+        try {
+            return Objects.requireNonNull(file).channel.map(FileChannel.MapMode.READ_ONLY, spilled.position, spilled.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void spill() {
+        if (chunkCount > 0) {
+            write(chunk.flip(), chunkCount);
+            chunk.clear();
+            chunkCount = 0;
+        }
+    }
+
+    private void write(final ByteBuffer bytes, final int count) {
+        final SpillFile target = openFile();
+        final Segment segment = new Segment(target.length, bytes.remaining(), count);
+        try {
+            while (bytes.hasRemaining()) {
+                target.length += target.channel.write(bytes, target.length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.add(segment);
+    }
+
+    private SpillFile openFile() {
+        SpillFile target = file;
+        if (target == null) {
+            try {
+                final Path path = Files.createTempFile("gatherers4j-", ".spill");
+                target = new SpillFile(path, FileChannel.open(
+                        path,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE
+                ));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            file = target;
+            cleanable = CLEANER.register(this, target);
+        }
+        return target;
+    }
+
+    private void grow(final int minimumCapacity) {
+        final int capacity = (int) Math.min(chunkLimit, Math.max((long) chunk.capacity() * 2, minimumCapacity));
+        chunk = ByteBuffer.allocate(capacity).put(chunk.flip());
+    }
+
+    private static void putRecord(final ByteBuffer target, final byte[] bytes) {
+        target.putInt(bytes.length).put(bytes).putInt(bytes.length);
+    }
+
+    private record Segment(long position, int length, int count) {
+    }
+
+    // Kept separate from the buffer so the cleaner does not keep the buffer reachable.
+    private static class SpillFile implements Runnable {
+        private final Path path;
+        private final FileChannel channel;
+        private long length = 0;
+
+        SpillFile(final Path path, final FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/// A hierarchical timing wheel. Each level has 256 slots, and each level covers 256 times the span of
+/// the level below it, so any `long` deadline can be scheduled in O(1). Timers are moved to lower levels
+/// as time approaches their deadline, and expire in deadline order. Advancing time skips empty slots,
+/// so the cost of advancing is proportional to the number of timers touched rather than the time elapsed.
+///
+/// Timers are intrusive: callers extend `Timer` so that scheduling does not allocate, and so that a scheduled
+/// timer can be cancelled (or moved to a new deadline) in O(1).
+public class TimingWheel<T extends TimingWheel.Timer> {
+    private static final int BITS = 8;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = Long.SIZE / BITS;
+    private static final int WORDS_PER_LEVEL = SLOTS / Long.SIZE;
+
+    private final @Nullable Timer[] heads = new Timer[LEVELS * SLOTS];
+    private final @Nullable Timer[] tails = new Timer[LEVELS * SLOTS];
+    private final long[] occupied = new long[LEVELS * WORDS_PER_LEVEL];
+    private long currentTime;
+    private int size = 0;
+
+    public TimingWheel(final long currentTime) {
+        this.currentTime = currentTime;
+    }
+
+    public long currentTime() {
+        return currentTime;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Schedule the `timer` to expire at `deadline`. Deadlines at or before the current time
+    /// expire on the next advance. A timer must not be scheduled more than once at a time.
+    public void schedule(final T timer, final long deadline) {
+        timer.deadline = Math.max(deadline, currentTime + 1);
+        place(timer);
+        size++;
+    }
+
+    /// Stop the `timer` from expiring, if it is scheduled.
+    ///
+    /// @return True if the timer was scheduled and has been cancelled
+    public boolean cancel(final T timer) {
+        final int index = timer.index;
+        if (index < 0) {
+            return false;
+        }
+        final Timer previous = timer.previous;
+        final Timer following = timer.next;
+        if (previous == null) {
+            heads[index] = following;
+        } else {
+            previous.next = following;
+        }
+        if (following == null) {
+            tails[index] = previous;
+        } else {
+            following.previous = previous;
+        }
+        if (heads[index] == null) {
+            final int slot = index & MASK;
+            occupied[(index >>> BITS) * WORDS_PER_LEVEL + (slot >>> 6)] &= ~(1L << slot);
+        }
+        timer.index = -1;
+        timer.previous = null;
+        timer.next = null;
+        size--;
+        return true;
+    }
+
+    /// Move the `timer` to expire at `deadline` instead, scheduling it if it is not already.
+    public void reschedule(final T timer, final long deadline) {
+        cancel(timer);
+        schedule(timer, deadline);
+    }
+
+    /// Move time forward to `time`, handing every timer whose deadline is at or before `time` to
+    /// `onExpired` in deadline order. The `onExpired` function may schedule timers, including the one it was given.
+    @SuppressWarnings("unchecked")
+    public void advanceTo(final long time, final Consumer<? super T> onExpired) {
+        while (currentTime < time) {
+            if (size == 0) {
+                currentTime = time;
+                return;
+            }
+            final long next = nextEventTime();
+            if (next > time) {
+                currentTime = time;
+                return;
+            }
+            currentTime = next;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((next & ((1L << (level * BITS)) - 1)) == 0) {
+                    cascade(level, (int) ((unsigned(next) >>> (level * BITS)) & MASK));
+                }
+            }
+            Timer timer = detach(0, (int) (next & MASK));
+            while (timer != null) {
+                final Timer following = timer.next;
+                timer.next = null;
+                size--;
+                onExpired.accept((T) timer);
+                timer = following;
+            }
+        }
+    }
+
+    // Every timer on a level sits in a slot after the current one for that level, so the next
+    // event is the first occupied slot on the lowest level that has one.
+    private long nextEventTime() {
+        final long now = unsigned(currentTime);
+        for (int level = 0; level < LEVELS; level++) {
+            final int shift = level * BITS;
+            final int slot = nextOccupied(level, (int) ((now >>> shift) & MASK) + 1);
+            if (slot >= 0) {
+                final long blockStart = level == LEVELS - 1 ? 0 : now & (-1L << (shift + BITS));
+                return unsigned(blockStart | ((long) slot << shift));
+            }
+        }
+        throw new IllegalStateException("Timing wheel is not empty but has no occupied slots");
+    }
+
+    private void cascade(final int level, final int slot) {
+        Timer timer = detach(level, slot);
+        while (timer != null) {
+            final Timer following = timer.next;
+            place(timer);
+            timer = following;
+        }
+    }
+
+    private void place(final Timer timer) {
+        // The level is the one containing the highest bit that differs between now and the deadline.
+        final int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(timer.deadline ^ currentTime)) / BITS;
+        final int slot = (int) ((unsigned(timer.deadline) >>> (level * BITS)) & MASK);
+        final int index = level * SLOTS + slot;
+        final Timer tail = tails[index];
+        timer.next = null;
+        timer.previous = tail;
+        timer.index = index;
+        if (tail == null) {
+            heads[index] = timer;
+            occupied[level * WORDS_PER_LEVEL + (slot >>> 6)] |= 1L << slot;
+        } else {
+            tail.next = timer;
+        }
+        tails[index] = timer;
+    }
+
+    private @Nullable Timer detach(final int level, final int slot) {
+        final int index = level * SLOTS + slot;
+        final Timer head = heads[index];
+        heads[index] = null;
+        tails[index] = null;
+        occupied[level * WORDS_PER_LEVEL + (slot >>> 6)] &= ~(1L << slot);
+        // Detached timers are no longer in a slot, so they cannot be cancelled until they are placed again
+        for (Timer timer = head; timer != null; timer = timer.next) {
+            timer.index = -1;
+            timer.previous = null;
+        }
+        return head;
+    }
+
+    // Flipping the sign bit maps signed order onto unsigned order (and back), so slots
+    // advance in the same order as time does, even when crossing from negative to positive.
+    private static long unsigned(final long time) {
+        return time ^ Long.MIN_VALUE;
+    }
+
+    private int nextOccupied(final int level, final int fromSlot) {
+        if (fromSlot >= SLOTS) {
+            return -1;
+        }
+        int word = fromSlot >>> 6;
+        long bits = occupied[level * WORDS_PER_LEVEL + word] & (-1L << fromSlot);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == WORDS_PER_LEVEL) {
+                return -1;
+            }
+            bits = occupied[level * WORDS_PER_LEVEL + word];
+        }
+    }
+
+    public static class Timer {
+        long deadline;
+        int index = -1;
+        @Nullable Timer previous;
+        @Nullable Timer next;
+
+        public long deadline() {
+            return deadline;
+        }
+    }
+}
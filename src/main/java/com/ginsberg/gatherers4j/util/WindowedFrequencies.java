@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+
+/// Counts of the values among the most recent `windowSize` values added. Values with the same count are kept
+/// together in a bucket, and buckets are linked in order of count, so that the most frequent values are always
+/// at hand and moving a value up or down by one takes constant time (the same structure as an O(1) LFU cache).
+/// The values in the window are held in a ring of references to their entries, so the oldest value can be
+/// removed from the count without looking it up.
+///
+/// Within a bucket, values are kept in the order in which they reached that count, so among values with the
+/// same count, the one that has had it the longest comes first.
+public class WindowedFrequencies<T extends @Nullable Object> {
+    private final @Nullable Entry<T>[] ring;
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private int next = 0;
+    private int size = 0;
+    private @Nullable Bucket<T> lowest;
+    private @Nullable Bucket<T> highest;
+
+    @SuppressWarnings("unchecked")
+    public WindowedFrequencies(final int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be greater than zero");
+        }
+        this.ring = (Entry<T>[]) new Entry[windowSize];
+    }
+
+    /// Add `value` to the window, removing the oldest value if the window is full.
+    public void add(final T value) {
+        if (size == ring.length) {
+            decrement(Objects.requireNonNull(ring[next]));
+        } else {
+            size++;
+        }
+        Entry<T> entry = entries.get(value);
+        if (entry == null) {
+            entry = new Entry<>(value);
+            entries.put(value, entry);
+        }
+        increment(entry);
+        ring[next] = entry;
+        next = (next + 1) % ring.length;
+    }
+
+    /// @return The number of values in the window, which is at most `windowSize`
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == ring.length;
+    }
+
+    /// @return The most frequent value in the window, which must not be empty
+    public T mode() {
+        return Objects.requireNonNull(mostFrequent().head).value;
+    }
+
+    /// @return The number of times the most frequent value occurs in the window, which must not be empty
+    public int modeCount() {
+        return mostFrequent().count;
+    }
+
+    /// Give up to `limit` of the most frequent values and their counts to `action`, most frequent first.
+    public void forEachMostFrequent(final int limit, final ObjLongConsumer<? super T> action) {
+        int remaining = limit;
+        for (Bucket<T> bucket = highest; bucket != null && remaining > 0; bucket = bucket.lower) {
+            for (Entry<T> entry = bucket.head; entry != null && remaining > 0; entry = entry.next) {
+                action.accept(entry.value, bucket.count);
+                remaining--;
+            }
+        }
+    }
+
+    private Bucket<T> mostFrequent() {
+        final Bucket<T> bucket = highest;
+        if (bucket == null) {
+            throw new IllegalStateException("Window is empty");
+        }
+        return bucket;
+    }
+
+    private void increment(final Entry<T> entry) {
+        final Bucket<T> from = entry.bucket;
+        final int count = from == null ? 1 : from.count + 1;
+        Bucket<T> to = from == null ? lowest : from.higher;
+        if (to == null || to.count != count) {
+            to = insertBucket(count, from, to);
+        }
+        move(entry, to);
+    }
+
+    private void decrement(final Entry<T> entry) {
+        final Bucket<T> from = Objects.requireNonNull(entry.bucket);
+        if (from.count == 1) {
+            unlink(entry);
+            entries.remove(entry.value);
+            return;
+        }
+        Bucket<T> to = from.lower;
+        if (to == null || to.count != from.count - 1) {
+            to = insertBucket(from.count - 1, to, from);
+        }
+        move(entry, to);
+    }
+
+    private void move(final Entry<T> entry, final Bucket<T> to) {
+        unlink(entry);
+        entry.bucket = to;
+        entry.previous = to.tail;
+        entry.next = null;
+        if (to.tail == null) {
+            to.head = entry;
+        } else {
+            to.tail.next = entry;
+        }
+        to.tail = entry;
+    }
+
+    // Remove the entry from its bucket, and the bucket from the list if that leaves it empty.
+    private void unlink(final Entry<T> entry) {
+        final Bucket<T> bucket = entry.bucket;
+        if (bucket == null) {
+            return;
+        }
+        if (entry.previous == null) {
+            bucket.head = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            bucket.tail = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        entry.bucket = null;
+        entry.previous = null;
+        entry.next = null;
+        if (bucket.head == null) {
+            if (bucket.lower == null) {
+                lowest = bucket.higher;
+            } else {
+                bucket.lower.higher = bucket.higher;
+            }
+            if (bucket.higher == null) {
+                highest = bucket.lower;
+            } else {
+                bucket.higher.lower = bucket.lower;
+            }
+        }
+    }
+
+    private Bucket<T> insertBucket(final int count, final @Nullable Bucket<T> lower, final @Nullable Bucket<T> higher) {
+        final Bucket<T> bucket = new Bucket<>(count);
+        bucket.lower = lower;
+        bucket.higher = higher;
+        if (lower == null) {
+            lowest = bucket;
+        } else {
+            lower.higher = bucket;
+        }
+        if (higher == null) {
+            highest = bucket;
+        } else {
+            higher.lower = bucket;
+        }
+        return bucket;
+    }
+
+    private static class Bucket<T extends @Nullable Object> {
+        final int count;
+        @Nullable Entry<T> head;
+        @Nullable Entry<T> tail;
+        @Nullable Bucket<T> lower;
+        @Nullable Bucket<T> higher;
+
+        Bucket(final int count) {
+            this.count = count;
+        }
+    }
+
+    private static class Entry<T extends @Nullable Object> {
+        final T value;
+        @Nullable Bucket<T> bucket;
+        @Nullable Entry<T> previous;
+        @Nullable Entry<T> next;
+
+        Entry(final T value) {
+            this.value = value;
+        }
+    }
+}
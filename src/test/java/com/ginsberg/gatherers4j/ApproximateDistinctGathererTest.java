@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApproximateDistinctGathererTest {
+
+    @Test
+    void distinctApprox() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "C", "B", "D");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.distinctApprox(100, 0.0001))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "B", "C", "D");
+    }
+
+    @Test
+    void distinctApproxBy() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "a", "b", "B", "C", "c");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.distinctApproxBy(it -> it.toUpperCase(Locale.ROOT), 100, 0.0001))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "b", "C");
+    }
+
+    @Test
+    void distinctApproxByWithNull() {
+        // Arrange
+        final Stream<String> input = Stream.of(null, "a", null);
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>distinctApproxBy(it -> it, 100, 0.0001))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(null, "a");
+    }
+
+    @Test
+    void neverEmitsDuplicates() {
+        // Arrange
+        final Stream<Long> input = IntStream.range(0, 100_000).mapToObj(it -> (long) (it % 10_000));
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.distinctApprox(10_000, 0.01))
+                .toList();
+
+        // Assert
+        assertThat(output).doesNotHaveDuplicates();
+        assertThat(output).hasSizeGreaterThan(9_800);
+    }
+
+    @Test
+    void falsePositiveRateIsNearRequested() {
+        // Arrange
+        final Stream<String> input = IntStream.range(0, 100_000).mapToObj(it -> "key-" + it);
+
+        // Act
+        final long output = input
+                .gather(Gatherers4j.distinctApprox(100_000, 0.01))
+                .count();
+
+        // Assert
+        assertThat(100_000 - output).isLessThan(1_500);
+    }
+
+    @Test
+    void uuidsWithEqualHashCodesAreDistinct() {
+        // Arrange
+        final Stream<UUID> input = IntStream.range(0, 10_000).mapToObj(it -> new UUID(it, it));
+
+        // Act
+        final long output = input
+                .gather(Gatherers4j.distinctApprox(10_000, 0.01))
+                .count();
+
+        // Assert
+        assertThat(output).isGreaterThan(9_800);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void mappingFunctionMustNotBeNull() {
+        assertThatThrownBy(() -> Gatherers4j.distinctApproxBy(null, 100, 0.01))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void expectedInsertionsMustBePositive() {
+        assertThatThrownBy(() -> Gatherers4j.distinctApprox(0, 0.01))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void falsePositiveRateMustBeAboveZero() {
+        assertThatThrownBy(() -> Gatherers4j.distinctApprox(100, 0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void falsePositiveRateMustBeBelowOne() {
+        assertThatThrownBy(() -> Gatherers4j.distinctApprox(100, 1))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tooLargeToAllocate() {
+        assertThatThrownBy(() -> Gatherers4j.distinctApprox(Long.MAX_VALUE / 2, 0.01))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
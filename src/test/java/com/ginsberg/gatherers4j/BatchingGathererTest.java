@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<List<String>> output = input
+                .gather(Gatherers4j.<String>batch(2, Duration.ofSeconds(1)))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void batchBySize() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D", "E");
+
+        // Act
+        final List<List<String>> output = input
+                .gather(Gatherers4j.<String>batch(2, Duration.ofSeconds(1)).withClock(new SteppingClock(0, 0, 0, 0, 0)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of("A", "B"),
+                List.of("C", "D"),
+                List.of("E")
+        );
+    }
+
+    @Test
+    void batchByLinger() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D", "E");
+
+        // Act
+        final List<List<String>> output = input
+                .gather(Gatherers4j.<String>batch(10, Duration.ofMillis(100))
+                        .withClock(new SteppingClock(0, 50, 100, 120, 500)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of("A", "B"),
+                List.of("C", "D"),
+                List.of("E")
+        );
+    }
+
+    @Test
+    void batchByWeight() {
+        // Arrange
+        final Stream<String> input = Stream.of("AA", "BBB", "C", "DDDDDD", "E");
+
+        // Act
+        final List<List<String>> output = input
+                .gather(Gatherers4j.<String>batch(10, Duration.ofSeconds(1))
+                        .withMaxWeight(5, String::length)
+                        .withClock(new SteppingClock(0, 0, 0, 0, 0)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of("AA", "BBB"),
+                List.of("C"),
+                List.of("DDDDDD"),
+                List.of("E")
+        );
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D", "E");
+
+        // Act
+        final List<List<String>> output = input
+                .gather(Gatherers4j.<String>batch(2, Duration.ofSeconds(1)))
+                .limit(1)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(List.of("A", "B"));
+    }
+
+    @Test
+    void batchesAreUnmodifiable() {
+        // Arrange
+        final Stream<String> input = Stream.of("A");
+
+        // Act
+        final List<List<String>> output = input
+                .gather(Gatherers4j.<String>batch(2, Duration.ofSeconds(1)))
+                .toList();
+
+        // Assert
+        assertThatThrownBy(() -> output.getFirst().add("B"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void negativeWeightFails() {
+        assertThatThrownBy(() ->
+                Stream.of("A")
+                        .gather(Gatherers4j.<String>batch(2, Duration.ofSeconds(1)).withMaxWeight(5, _ -> -1))
+                        .toList()
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void maxSizeMustBePositive(final int maxSize) {
+        assertThatThrownBy(() ->
+                Gatherers4j.batch(maxSize, Duration.ofSeconds(1))
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void maxLingerMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.batch(1, Duration.ZERO)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void maxLingerMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.batch(1, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void maxWeightMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>batch(1, Duration.ofSeconds(1)).withMaxWeight(0, String::length)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void weightFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>batch(1, Duration.ofSeconds(1)).withMaxWeight(1, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void clockMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>batch(1, Duration.ofSeconds(1)).withClock(null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Returns each of the given times in turn, one per element
+    private static class SteppingClock extends Clock {
+        private final long[] times;
+        private int invocation;
+
+        private SteppingClock(final long... times) {
+            this.times = times;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(times[invocation++ % times.length]);
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BufferedShufflingGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<String> output = input.gather(Gatherers4j.shuffle(3)).toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void knownShuffle() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D", "E", "F", "G");
+
+        // Act
+        final String output = input
+                .gather(Gatherers4j.shuffle(3, new Random(42)))
+                .collect(Collectors.joining());
+
+        // Assert
+        assertThat(output).isEqualTo("CAEDFBG");
+    }
+
+    @Test
+    void emitsEveryElement() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 1_000).boxed().toList();
+
+        // Act
+        final List<Integer> output = input.stream().gather(Gatherers4j.shuffle(10)).toList();
+
+        // Assert
+        assertThat(output).containsExactlyInAnyOrderElementsOf(input);
+    }
+
+    @Test
+    void elementsMoveEarlierByNoMoreThanBufferSize() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 1_000).boxed().toList();
+
+        // Act
+        final List<Integer> output = input.stream().gather(Gatherers4j.shuffle(10)).toList();
+
+        // Assert
+        for (int i = 0; i < output.size(); i++) {
+            assertThat(output.get(i)).isLessThanOrEqualTo(i + 10);
+        }
+    }
+
+    @Test
+    void bufferLargerThanStream() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 10).boxed().toList();
+
+        // Act
+        final List<Integer> output = input.stream().gather(Gatherers4j.shuffle(1_000_000)).toList();
+
+        // Assert
+        assertThat(output).containsExactlyInAnyOrderElementsOf(input);
+    }
+
+    @Test
+    void bufferOfOneKeepsOrder() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D");
+
+        // Act
+        final List<String> output = input.gather(Gatherers4j.shuffle(1)).toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "B", "C", "D");
+    }
+
+    @Test
+    void emitsOnceBufferIsFull() {
+        // Arrange
+        final List<Integer> seen = new ArrayList<>();
+        final Iterator<Integer> output = Stream.iterate(0, it -> it + 1)
+                .peek(seen::add)
+                .gather(Gatherers4j.shuffle(5))
+                .iterator();
+
+        // Act
+        output.next();
+
+        // Assert
+        assertThat(seen).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void worksOnInfiniteStreams() {
+        // Arrange
+        final Stream<Integer> input = Stream.iterate(0, it -> it + 1);
+
+        // Act
+        final List<Integer> output = input.gather(Gatherers4j.shuffle(5)).limit(100).toList();
+
+        // Assert
+        assertThat(output).hasSize(100).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void bufferSizeMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.shuffle(0)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void randomGeneratorMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.shuffle(3, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
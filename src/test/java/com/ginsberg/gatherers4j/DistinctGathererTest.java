@@ -16,12 +16,24 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static com.ginsberg.gatherers4j.test.ParallelAndSequentialTest.NULL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -64,4 +76,443 @@ class DistinctGathererTest {
         assertThatThrownBy(() -> input.gather(Gatherers4j.distinctBy(null)).toList())
                 .isExactlyInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void withMaxEntriesForgetsLeastRecentlySeen() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "C", "A", "B");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>distinctBy(it -> it).withMaxEntries(2))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "B", "C", "B");
+    }
+
+    @Test
+    void withMaxEntriesLargerThanStream() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "a", "b", "B", "C", "c");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>distinctBy(String::toUpperCase).withMaxEntries(10))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "b", "C");
+    }
+
+    @Test
+    void withMaxEntriesMustBePositive() {
+        assertThatThrownBy(() -> Gatherers4j.<String>distinctBy(it -> it).withMaxEntries(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void withTtlByTimestamp() {
+        // Arrange
+        final Stream<Event> input = Stream.of(
+                new Event(0, "A"),
+                new Event(5, "A"),
+                new Event(14, "A"),
+                new Event(25, "A"),
+                new Event(26, "B"),
+                new Event(27, "A")
+        );
+
+        // Act
+        final List<Event> output = input
+                .gather(Gatherers4j.<Event>distinctBy(Event::name).withTtl(Duration.ofMillis(10), Event::timestamp))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new Event(0, "A"),
+                new Event(25, "A"),
+                new Event(26, "B")
+        );
+    }
+
+    @Test
+    void withTtlByTimestampOutOfOrder() {
+        // Arrange
+        final Stream<Event> input = Stream.of(
+                new Event(0, "A"),
+                new Event(12, "B"),
+                new Event(3, "A"),
+                new Event(10, "A")
+        );
+
+        // Act
+        final List<Event> output = input
+                .gather(Gatherers4j.<Event>distinctBy(Event::name).withTtl(Duration.ofMillis(10), Event::timestamp))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new Event(0, "A"),
+                new Event(12, "B"),
+                new Event(3, "A")
+        );
+    }
+
+    @Test
+    void withTtlByClock() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "A", "A", "B");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>distinctBy(it -> it)
+                        .withTtl(Duration.ofSeconds(1))
+                        .withClock(new SteppingClock(0, 500, 1_500, 1_600)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "A", "B");
+    }
+
+    @Test
+    void withTtlAndMaxEntries() {
+        // Arrange
+        final Stream<Event> input = Stream.of(
+                new Event(0, "A"),
+                new Event(1, "B"),
+                new Event(2, "C"),
+                new Event(3, "B"),
+                new Event(20, "C")
+        );
+
+        // Act
+        final List<Event> output = input
+                .gather(Gatherers4j.<Event>distinctBy(Event::name)
+                        .withMaxEntries(2)
+                        .withTtl(Duration.ofMillis(10), Event::timestamp))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new Event(0, "A"),
+                new Event(1, "B"),
+                new Event(2, "C"),
+                new Event(20, "C")
+        );
+    }
+
+    @Test
+    void withTtlMustBePositive() {
+        assertThatThrownBy(() -> Gatherers4j.<String>distinctBy(it -> it).withTtl(Duration.ZERO))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void withTtlTimestampFunctionMustNotBeNull() {
+        assertThatThrownBy(() -> Gatherers4j.<String>distinctBy(it -> it).withTtl(Duration.ofMillis(1), null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void withClockMustNotBeNull() {
+        assertThatThrownBy(() -> Gatherers4j.<String>distinctBy(it -> it).withClock(null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unboundedStateOnlyAllocatesKnownKeys() {
+        // Act
+        final DistinctGatherer.State state = Gatherers4j.<String>distinctBy(it -> it).initializer().get();
+
+        // Assert
+        assertThat(state.knownObjects).isNotNull();
+        assertThat(state.lastSeen).isNull();
+        assertThat(state.firstSeen).isNull();
+        assertThat(state.shared).isNull();
+    }
+
+    @Test
+    void boundedStateOnlyAllocatesLastSeen() {
+        // Act
+        final DistinctGatherer.State state = Gatherers4j.<String>distinctBy(it -> it)
+                .withMaxEntries(10)
+                .initializer()
+                .get();
+
+        // Assert
+        assertThat(state.lastSeen).isNotNull();
+        assertThat(state.knownObjects).isNull();
+        assertThat(state.firstSeen).isNull();
+        assertThat(state.shared).isNull();
+    }
+
+    @Test
+    void persistentAtRemembersAcrossRuns(@TempDir final Path directory) {
+        // Arrange
+        final Path path = directory.resolve("keys");
+        final List<String> first = Stream.of("A", "B", "A", "C")
+                .gather(Gatherers4j.<String>distinctBy(it -> it).persistentAt(path))
+                .toList();
+
+        // Act
+        final List<String> second = Stream.of("C", "D", "A", "E", "D")
+                .gather(Gatherers4j.<String>distinctBy(it -> it).persistentAt(path))
+                .toList();
+
+        // Assert
+        assertThat(first).containsExactly("A", "B", "C");
+        assertThat(second).containsExactly("D", "E");
+    }
+
+    @Test
+    void persistentAtWithDownstreamRejection(@TempDir final Path directory) {
+        // Arrange
+        final Path path = directory.resolve("keys");
+        Stream.of("A", "B", "C", "D")
+                .gather(Gatherers4j.<String>distinctBy(it -> it).persistentAt(path))
+                .limit(2)
+                .toList();
+
+        // Act
+        final List<String> output = Stream.of("A", "B", "C", "D")
+                .gather(Gatherers4j.<String>distinctBy(it -> it).persistentAt(path))
+                .toList();
+
+        // Assert
+        assertThat(output).doesNotContain("A", "B");
+    }
+
+    @Test
+    void persistentAtKeepsKeysOfDifferentTypesApart(@TempDir final Path directory) {
+        // Arrange
+        final Stream<Object> input = Stream.of(null, 0L, 0, 5L, 5, "5", null, 0, 5L);
+
+        // Act
+        final List<Object> output = input
+                .gather(Gatherers4j.<Object>distinctBy(it -> it).persistentAt(directory.resolve("keys")))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(null, 0L, 0, 5L, 5, "5");
+    }
+
+    @Test
+    void persistentAtKeepsUuidsWithEqualHashCodesApart(@TempDir final Path directory) {
+        // Arrange
+        final Stream<UUID> input = IntStream.range(0, 10_000).mapToObj(it -> new UUID(it, it));
+
+        // Act
+        final long output = input
+                .gather(Gatherers4j.<UUID>distinctBy(it -> it).persistentAt(directory.resolve("keys")))
+                .count();
+
+        // Assert
+        assertThat(output).isEqualTo(10_000);
+    }
+
+    @Test
+    void persistentAtCannotBeBounded(@TempDir final Path directory) {
+        // Arrange
+        final Stream<String> input = Stream.of("A");
+
+        // Act/Assert
+        assertThatThrownBy(() -> input
+                .gather(Gatherers4j.<String>distinctBy(it -> it).withMaxEntries(1).persistentAt(directory.resolve("keys")))
+                .toList()
+        ).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void persistentAtPathMustNotBeNull() {
+        assertThatThrownBy(() -> Gatherers4j.<String>distinctBy(it -> it).persistentAt(null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class WithParallelSupport {
+
+        @ParallelAndSequentialTest(values = {"A", "a", "b", NULL, "B", "C", NULL, "c"})
+        void distinctBy(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.<String>distinctBy(it -> it == null ? null : it.toUpperCase(Locale.ROOT))
+                            .withParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).containsExactly("A", "b", null, "C");
+        }
+
+        @Test
+        void keepsFirstOccurrenceInParallel() {
+            // Arrange
+            final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+            // Act
+            final List<Integer> output = input.parallelStream()
+                    .gather(Gatherers4j.<Integer>distinctBy(it -> it % 1_000).withParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).isEqualTo(input.subList(0, 1_000));
+        }
+
+        @Test
+        void cannotBeCombinedWithMaxEntries() {
+            // Arrange
+            final Stream<String> input = Stream.of("A");
+
+            // Act/Assert
+            assertThatThrownBy(() -> input
+                    .gather(Gatherers4j.<String>distinctBy(it -> it).withMaxEntries(1).withParallelSupport())
+                    .toList()
+            ).isExactlyInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class WithUnorderedParallelSupport {
+
+        @ParallelAndSequentialTest(values = {"A", "a", "b", NULL, "B", "C", NULL, "c"})
+        void distinctBy(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.<String>distinctBy(it -> it == null ? null : it.toUpperCase(Locale.ROOT))
+                            .withUnorderedParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).hasSize(4).containsNull();
+            assertThat(output.stream().map(it -> it == null ? null : it.toUpperCase(Locale.ROOT)))
+                    .containsExactlyInAnyOrder("A", "B", null, "C");
+        }
+
+        @Test
+        void emitsOneOccurrenceOfEachKeyInParallel() {
+            // Arrange
+            final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+            // Act
+            final List<Integer> output = input.parallelStream()
+                    .gather(Gatherers4j.<Integer>distinctBy(it -> it % 1_000).withUnorderedParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).hasSize(1_000);
+            assertThat(output.stream().map(it -> it % 1_000)).doesNotHaveDuplicates();
+        }
+
+        @Test
+        void reusedGathererDoesNotShareKeysBetweenStreams() {
+            // Arrange
+            final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+            final DistinctGatherer<Integer> gatherer = Gatherers4j.<Integer>distinctBy(it -> it % 1_000)
+                    .withUnorderedParallelSupport();
+
+            // Act
+            final List<Integer> first = input.parallelStream().gather(gatherer).toList();
+            final List<Integer> second = input.parallelStream().gather(gatherer).toList();
+
+            // Assert
+            assertThat(first).hasSize(1_000);
+            assertThat(first.stream().map(it -> it % 1_000)).doesNotHaveDuplicates();
+            assertThat(second).hasSize(1_000);
+            assertThat(second.stream().map(it -> it % 1_000)).doesNotHaveDuplicates();
+        }
+
+        @Test
+        void eachInitializerHasItsOwnSharedSet() {
+            // Arrange
+            final DistinctGatherer<String> gatherer = Gatherers4j.<String>distinctBy(it -> it)
+                    .withUnorderedParallelSupport();
+            final Supplier<DistinctGatherer.State> first = gatherer.initializer();
+            final Supplier<DistinctGatherer.State> second = gatherer.initializer();
+            first.get().addShared("A");
+
+            // Act
+            final boolean sameSupplier = first.get().addShared("A");
+            final boolean otherSupplier = second.get().addShared("A");
+
+            // Assert
+            assertThat(sameSupplier).isFalse();
+            assertThat(otherSupplier).isTrue();
+        }
+
+        @Test
+        void combinerMergesStatesWithDifferentSets() {
+            // Arrange
+            final DistinctGatherer<String> gatherer = Gatherers4j.<String>distinctBy(it -> it)
+                    .withUnorderedParallelSupport();
+            final DistinctGatherer.State left = gatherer.initializer().get();
+            final DistinctGatherer.State right = gatherer.initializer().get();
+            left.addShared("A");
+            right.addShared("B");
+
+            // Act
+            final DistinctGatherer.State output = gatherer.combiner().apply(left, right);
+
+            // Assert
+            assertThat(output.shared).containsExactlyInAnyOrder("A", "B");
+        }
+
+        @Test
+        void stateOnlyAllocatesSharedSet() {
+            // Act
+            final DistinctGatherer.State state = Gatherers4j.<String>distinctBy(it -> it)
+                    .withUnorderedParallelSupport()
+                    .initializer()
+                    .get();
+
+            // Assert
+            assertThat(state.shared).isNotNull();
+            assertThat(state.knownObjects).isNull();
+            assertThat(state.lastSeen).isNull();
+            assertThat(state.firstSeen).isNull();
+        }
+
+        @Test
+        void cannotBeCombinedWithTtl() {
+            // Arrange
+            final Stream<String> input = Stream.of("A");
+
+            // Act/Assert
+            assertThatThrownBy(() -> input
+                    .gather(Gatherers4j.<String>distinctBy(it -> it)
+                            .withTtl(Duration.ofSeconds(1))
+                            .withUnorderedParallelSupport())
+                    .toList()
+            ).isExactlyInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    record Event(long timestamp, String name) {
+    }
+
+    private static class SteppingClock extends Clock {
+        private final long[] times;
+        private int invocation;
+
+        private SteppingClock(final long... times) {
+            this.times = times;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(times[invocation++ % times.length]);
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+    }
+}
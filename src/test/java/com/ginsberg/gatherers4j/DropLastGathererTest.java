@@ -16,9 +16,12 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -69,4 +72,73 @@ class DropLastGathererTest {
         assertThat(output).isEmpty();
     }
 
+    @Nested
+    class WithParallelSupport {
+
+        @ParallelAndSequentialTest(values = {"A", "B", "C", "D", "E", "F", "G", "H", "I", "J"})
+        void dropLast(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.<String>dropLast(3).withParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).containsExactly("A", "B", "C", "D", "E", "F", "G");
+        }
+
+        @Test
+        void dropLastParallel() {
+            // Arrange
+            final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+            // Act
+            final List<Integer> output = input.parallelStream()
+                    .gather(Gatherers4j.<Integer>dropLast(5_000).withParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).isEqualTo(input.subList(0, 95_000));
+        }
+
+        @Test
+        void parallelStateDoesNotAllocateSequentialBuffer() {
+            // Act
+            final DropLastGatherer.State<Integer> state = Gatherers4j.<Integer>dropLast(1_000_000)
+                    .withParallelSupport()
+                    .initializer()
+                    .get();
+
+            // Assert
+            assertThat(state.elements).isNull();
+        }
+
+        @Test
+        void dropLastLongerThanStreamReturnsEmpty() {
+            // Arrange
+            final Stream<String> input = Stream.of("A", "B", "C").parallel();
+
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.<String>dropLast(4).withParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).isEmpty();
+        }
+
+        @Test
+        void downstreamRejection() {
+            // Arrange
+            final Stream<String> input = Stream.of("A", "B", "C", "D", "E");
+
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.<String>dropLast(1).withParallelSupport())
+                    .limit(2)
+                    .toList();
+
+            // Assert
+            assertThat(output).containsExactly("A", "B");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.enums.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnsureOrderedGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<Integer> input = Stream.empty();
+
+        // Act
+        final List<Integer> output = input.gather(Gatherers4j.ensureOrdered(Order.Ascending)).toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void singleElementStream() {
+        // Arrange
+        final Stream<Integer> input = Stream.of(1);
+
+        // Act
+        final List<Integer> output = input.gather(Gatherers4j.ensureOrdered(Order.Descending)).toList();
+
+        // Assert
+        assertThat(output).containsExactly(1);
+    }
+
+    @Test
+    void ensureEqual() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.ensureOrderedBy(Order.Equal, Comparator.comparingInt(String::length)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    void elementsAreEmittedBeforeFailure() {
+        // Arrange
+        final List<Integer> seen = new ArrayList<>();
+
+        // Act/Assert
+        assertThatThrownBy(() ->
+                Stream.of(1, 2, 3, 2, 4)
+                        .gather(Gatherers4j.ensureOrdered(Order.Ascending))
+                        .forEach(seen::add)
+        ).isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Elements not in proper order: Ascending");
+        assertThat(seen).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void failsBeforeConsumingRestOfStream() {
+        // Arrange
+        final List<Integer> consumed = new ArrayList<>();
+
+        // Act/Assert
+        assertThatThrownBy(() ->
+                Stream.of(3, 2, 5, 1, 0)
+                        .peek(consumed::add)
+                        .gather(Gatherers4j.ensureOrdered(Order.Descending))
+                        .toList()
+        ).isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(consumed).containsExactly(3, 2, 5);
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<Integer> input = Stream.of(1, 2, 3, 0);
+
+        // Act
+        final List<Integer> output = input
+                .gather(Gatherers4j.ensureOrdered(Order.Ascending))
+                .limit(2)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(1, 2);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void orderMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<Integer>ensureOrdered(null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void comparatorMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<Integer>ensureOrderedBy(Order.Ascending, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -22,8 +22,10 @@ import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static com.ginsberg.gatherers4j.test.ParallelAndSequentialTest.NULL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -59,6 +61,182 @@ class FrequencyGathererTest {
                 );
     }
 
+    @ParallelAndSequentialTest(values = {"A", "A", "A", "B", "B", "B", "B", "C", "C", "D"})
+    void limitDescending(final Stream<String> input) {
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.<String>orderByFrequency(Frequency.Descending).limit(2))
+                .toList();
+
+        // Assert
+        assertThat(output)
+                .containsExactly(
+                        new WithCount<>("B", 4),
+                        new WithCount<>("A", 3)
+                );
+    }
+
+    @ParallelAndSequentialTest(values = {"A", "A", "A", "B", "B", "B", "B", "C", "C", "D"})
+    void limitAscending(final Stream<String> input) {
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.<String>orderByFrequency(Frequency.Ascending).limit(2))
+                .toList();
+
+        // Assert
+        assertThat(output)
+                .containsExactly(
+                        new WithCount<>("D", 1),
+                        new WithCount<>("C", 2)
+                );
+    }
+
+    @ParallelAndSequentialTest(values = {"A", "A", "B"})
+    void limitLargerThanDistinctElements(final Stream<String> input) {
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.<String>orderByFrequency(Frequency.Descending).limit(10))
+                .toList();
+
+        // Assert
+        assertThat(output)
+                .containsExactly(
+                        new WithCount<>("A", 2),
+                        new WithCount<>("B", 1)
+                );
+    }
+
+    @Test
+    void limitSelectsFromManyDistinctElements() {
+        // Arrange
+        final Stream<Integer> input = IntStream.range(0, 100_000).map(it -> it % 1_000 == 0 ? 7 : it).boxed();
+
+        // Act
+        final List<WithCount<Integer>> output = input
+                .gather(Gatherers4j.<Integer>orderByFrequency(Frequency.Descending).limit(1))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new WithCount<>(7, 101));
+    }
+
+    @ParallelAndSequentialTest(values = {"A", NULL, NULL, "A", NULL})
+    void countsNulls(final Stream<String> input) {
+        // Act
+        final List<WithCount<String>> output = input.gather(Gatherers4j.orderByFrequency(Frequency.Descending)).toList();
+
+        // Assert
+        assertThat(output)
+                .containsExactly(
+                        new WithCount<>(null, 3),
+                        new WithCount<>("A", 2)
+                );
+    }
+
+    @ParallelAndSequentialTest(values = {"A", "A", "A", "B", "B", "B", "B", "C", "C", NULL})
+    void concurrentCounting(final Stream<String> input) {
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.<String>orderByFrequency(Frequency.Descending).withConcurrentCounting())
+                .toList();
+
+        // Assert
+        assertThat(output)
+                .containsExactly(
+                        new WithCount<>("B", 4),
+                        new WithCount<>("A", 3),
+                        new WithCount<>("C", 2),
+                        new WithCount<>(null, 1)
+                );
+    }
+
+    @Test
+    void concurrentCountingWithLimitOnManySplits() {
+        // Arrange
+        final Stream<Integer> input = IntStream.range(0, 1_000_000).map(it -> it % 10 == 0 ? 7 : it).boxed();
+
+        // Act
+        final List<WithCount<Integer>> output = input
+                .parallel()
+                .gather(Gatherers4j.<Integer>orderByFrequency(Frequency.Descending).withConcurrentCounting().limit(1))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new WithCount<>(7, 100_001));
+    }
+
+    @Test
+    void reusedConcurrentCountingGathererDoesNotShareCountsBetweenStreams() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 100_000).map(it -> it % 1_000).boxed().toList();
+        final FrequencyGatherer<Integer> gatherer = Gatherers4j.<Integer>orderByFrequency(Frequency.Descending)
+                .withConcurrentCounting();
+
+        // Act
+        final List<WithCount<Integer>> first = input.parallelStream().gather(gatherer).toList();
+        final List<WithCount<Integer>> second = input.parallelStream().gather(gatherer).toList();
+
+        // Assert
+        assertThat(first).hasSize(1_000).allSatisfy(it -> assertThat(it.count()).isEqualTo(100));
+        assertThat(second).hasSize(1_000).allSatisfy(it -> assertThat(it.count()).isEqualTo(100));
+    }
+
+    @Test
+    void eachConcurrentCountingInitializerHasItsOwnMap() {
+        // Arrange
+        final FrequencyGatherer<String> gatherer = Gatherers4j.<String>orderByFrequency(Frequency.Descending)
+                .withConcurrentCounting();
+        final FrequencyGatherer.State<String> first = gatherer.initializer().get();
+        final FrequencyGatherer.State<String> second = gatherer.initializer().get();
+        first.add("A");
+
+        // Act
+        second.add("A");
+
+        // Assert
+        assertThat(first.shared().get("A").sum()).isEqualTo(1);
+        assertThat(second.shared().get("A").sum()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCountingCombinerMergesStatesWithDifferentMaps() {
+        // Arrange
+        final FrequencyGatherer<String> gatherer = Gatherers4j.<String>orderByFrequency(Frequency.Descending)
+                .withConcurrentCounting();
+        final FrequencyGatherer.State<String> left = gatherer.initializer().get();
+        final FrequencyGatherer.State<String> right = gatherer.initializer().get();
+        left.add("A");
+        right.add("A");
+        right.add("B");
+
+        // Act
+        final FrequencyGatherer.State<String> output = gatherer.combiner().apply(left, right);
+
+        // Assert
+        assertThat(output.shared().get("A").sum()).isEqualTo(2);
+        assertThat(output.shared().get("B").sum()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCountingStateOnlyAllocatesSharedMap() {
+        // Act
+        final FrequencyGatherer.State<String> state = Gatherers4j.<String>orderByFrequency(Frequency.Descending)
+                .withConcurrentCounting()
+                .initializer()
+                .get();
+
+        // Assert
+        assertThat(state.shared).isNotNull();
+        assertThat(state.counts).isNull();
+    }
+
+    @Test
+    void limitMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.orderByFrequency(Frequency.Descending).limit(0)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void orderMustBeSpecified() {
         assertThatThrownBy(() ->
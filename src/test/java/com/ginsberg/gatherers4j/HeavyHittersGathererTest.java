@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.HeavyHitter;
+import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.ginsberg.gatherers4j.test.ParallelAndSequentialTest.NULL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HeavyHittersGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<List<HeavyHitter<String>>> output = input
+                .gather(Gatherers4j.heavyHitters(2, 0.1))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @ParallelAndSequentialTest(values = {"A", "B", "A", "C", "A", "B", "D"})
+    void exactWhenEveryValueFits(final Stream<String> input) {
+        // Act
+        final List<List<HeavyHitter<String>>> output = input
+                .gather(Gatherers4j.heavyHitters(2, 0.1))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of(
+                        new HeavyHitter<>("A", 3, 0),
+                        new HeavyHitter<>("B", 2, 0)
+                )
+        );
+    }
+
+    @ParallelAndSequentialTest(values = {"A", NULL, NULL, "B"})
+    void countsNulls(final Stream<String> input) {
+        // Act
+        final List<List<HeavyHitter<String>>> output = input
+                .gather(Gatherers4j.heavyHitters(1, 0.1))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(List.of(new HeavyHitter<>(null, 2, 0)));
+    }
+
+    @Test
+    void countsAreBoundedWhenValuesAreEvictedInParallel() {
+        // Arrange
+        final Random random = new Random(42);
+        final List<Integer> values = IntStream.range(0, 100_000)
+                .map(it -> random.nextInt(4) == 0 ? it % 5 : random.nextInt(10_000))
+                .boxed()
+                .toList();
+        final Map<Integer, Long> actual = new HashMap<>();
+        values.forEach(it -> actual.merge(it, 1L, Long::sum));
+
+        // Act
+        final List<List<HeavyHitter<Integer>>> output = values.parallelStream()
+                .gather(Gatherers4j.heavyHitters(5, 0.01))
+                .toList();
+
+        // Assert
+        assertThat(output).hasSize(1);
+        assertThat(output.getFirst())
+                .extracting(HeavyHitter::value)
+                .containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+        assertThat(output.getFirst()).allSatisfy(hitter -> {
+            assertThat(hitter.count()).isGreaterThanOrEqualTo(actual.get(hitter.value()));
+            assertThat(hitter.count() - hitter.error()).isLessThanOrEqualTo(actual.get(hitter.value()));
+            assertThat(hitter.error()).isLessThanOrEqualTo(1_000);
+        });
+    }
+
+    @Test
+    void snapshotsAreEmittedPeriodically() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "B", "C", "C", "C", "A");
+
+        // Act
+        final List<List<HeavyHitter<String>>> output = input
+                .gather(Gatherers4j.<String>heavyHitters(1, 0.1).withSnapshotEvery(3))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of(new HeavyHitter<>("B", 2, 0)),
+                List.of(new HeavyHitter<>("C", 3, 0)),
+                List.of(new HeavyHitter<>("C", 3, 0))
+        );
+    }
+
+    @Test
+    void noFinalSnapshotWhenJustTaken() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "A", "B", "A");
+
+        // Act
+        final List<List<HeavyHitter<String>>> output = input
+                .gather(Gatherers4j.<String>heavyHitters(1, 0.1).withSnapshotEvery(2))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of(new HeavyHitter<>("A", 2, 0)),
+                List.of(new HeavyHitter<>("A", 3, 0))
+        );
+    }
+
+    @Test
+    void snapshotsAreUnmodifiable() {
+        // Arrange
+        final Stream<String> input = Stream.of("A");
+
+        // Act
+        final List<List<HeavyHitter<String>>> output = input
+                .gather(Gatherers4j.heavyHitters(1, 0.1))
+                .toList();
+
+        // Assert
+        assertThatThrownBy(() -> output.getFirst().add(new HeavyHitter<>("B", 1, 0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void kMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.heavyHitters(0, 0.1)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void epsilonMustBeGreaterThanZero() {
+        assertThatThrownBy(() ->
+                Gatherers4j.heavyHitters(1, 0)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void epsilonMustBeLessThanOne() {
+        assertThatThrownBy(() ->
+                Gatherers4j.heavyHitters(1, 1)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void epsilonMustNotRequireTooManyCounters() {
+        assertThatThrownBy(() ->
+                Gatherers4j.heavyHitters(1, 1e-9)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void snapshotIntervalMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.heavyHitters(1, 0.1).withSnapshotEvery(0)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
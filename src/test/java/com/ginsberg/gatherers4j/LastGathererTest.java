@@ -16,9 +16,11 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +44,31 @@ class LastGathererTest {
         assertThat(output).containsExactly("D", "E", "F");
     }
 
+    @ParallelAndSequentialTest(values = {"A", "B", "C", "D", "E", "F", "G", "H", "I", "J"})
+    void lastElementsParallelAndSequential(final Stream<String> input) {
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.takeLast(3))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("H", "I", "J");
+    }
+
+    @Test
+    void lastElementsParallel() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+        // Act
+        final List<Integer> output = input.parallelStream()
+                .gather(Gatherers4j.takeLast(5_000))
+                .toList();
+
+        // Assert
+        assertThat(output).isEqualTo(input.subList(95_000, 100_000));
+    }
+
     @Test
     void lastElementsNull() {
         // Arrange
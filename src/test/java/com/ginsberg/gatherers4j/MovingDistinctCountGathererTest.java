@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.WithOriginal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovingDistinctCountGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.movingDistinctCount(3))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void movingDistinctCount() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "A", "A", "C", "D");
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.movingDistinctCount(3))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(1L, 2L, 2L, 2L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void movingDistinctCountExcludingPartialValues() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "A", "A", "C", "D");
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.<String>movingDistinctCount(3).excludePartialValues())
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(2L, 2L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void movingDistinctCountWithNulls() {
+        // Arrange
+        final Stream<String> input = Stream.of(null, "A", null, "B", "B");
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.movingDistinctCount(2))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(1L, 2L, 2L, 2L, 1L);
+    }
+
+    @Test
+    void movingDistinctCountBy() {
+        // Arrange
+        final Stream<String> input = Stream.of("a", "A", "b", "B", "c");
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.<String>movingDistinctCountBy(3, String::toLowerCase))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(1L, 1L, 2L, 2L, 2L);
+    }
+
+    @Test
+    void movingDistinctCountWithOriginal() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "B");
+
+        // Act
+        final List<WithOriginal<String, Long>> output = input
+                .gather(Gatherers4j.<String>movingDistinctCount(2).withOriginal())
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithOriginal<>("A", 1L),
+                new WithOriginal<>("B", 2L),
+                new WithOriginal<>("B", 1L)
+        );
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D");
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.movingDistinctCount(2))
+                .limit(2)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(1L, 2L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 1})
+    void windowSizeMustBeGreaterThanOne(final int windowSize) {
+        assertThatThrownBy(() ->
+                Gatherers4j.movingDistinctCount(windowSize)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void mappingFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.movingDistinctCountBy(2, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.WithCount;
+import com.ginsberg.gatherers4j.dto.WithOriginal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovingFrequencyGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<List<WithCount<String>>> output = input
+                .gather(Gatherers4j.movingFrequency(3, 2))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void movingFrequency() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "C", "A");
+
+        // Act
+        final List<List<WithCount<String>>> output = input
+                .gather(Gatherers4j.movingFrequency(3, 2))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of(new WithCount<>("A", 1)),
+                List.of(new WithCount<>("A", 1), new WithCount<>("B", 1)),
+                List.of(new WithCount<>("A", 2), new WithCount<>("B", 1)),
+                List.of(new WithCount<>("B", 1), new WithCount<>("A", 1)),
+                List.of(new WithCount<>("A", 2), new WithCount<>("C", 1))
+        );
+    }
+
+    @Test
+    void movingFrequencyExcludingPartialValues() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "C", "A");
+
+        // Act
+        final List<List<WithCount<String>>> output = input
+                .gather(Gatherers4j.<String>movingFrequency(3, 2).excludePartialValues())
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of(new WithCount<>("A", 2), new WithCount<>("B", 1)),
+                List.of(new WithCount<>("B", 1), new WithCount<>("A", 1)),
+                List.of(new WithCount<>("A", 2), new WithCount<>("C", 1))
+        );
+    }
+
+    @Test
+    void movingFrequencyWithNulls() {
+        // Arrange
+        final Stream<String> input = Stream.of(null, "A", null);
+
+        // Act
+        final List<List<WithCount<String>>> output = input
+                .gather(Gatherers4j.movingFrequency(2, 2))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of(new WithCount<>(null, 1)),
+                List.of(new WithCount<>(null, 1), new WithCount<>("A", 1)),
+                List.of(new WithCount<>("A", 1), new WithCount<>(null, 1))
+        );
+    }
+
+    @Test
+    void movingFrequencyWithOriginal() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "A");
+
+        // Act
+        final List<WithOriginal<String, List<WithCount<String>>>> output = input
+                .gather(Gatherers4j.<String>movingFrequency(2, 1).withOriginal())
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithOriginal<>("A", List.of(new WithCount<>("A", 1))),
+                new WithOriginal<>("A", List.of(new WithCount<>("A", 2)))
+        );
+    }
+
+    @Test
+    void frequenciesAreUnmodifiable() {
+        // Arrange
+        final Stream<String> input = Stream.of("A");
+
+        // Act
+        final List<List<WithCount<String>>> output = input
+                .gather(Gatherers4j.movingFrequency(2, 1))
+                .toList();
+
+        // Assert
+        assertThatThrownBy(() -> output.getFirst().add(new WithCount<>("B", 1)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D");
+
+        // Act
+        final List<List<WithCount<String>>> output = input
+                .gather(Gatherers4j.movingFrequency(2, 1))
+                .limit(2)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                List.of(new WithCount<>("A", 1)),
+                List.of(new WithCount<>("A", 1))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 1})
+    void windowSizeMustBeGreaterThanOne(final int windowSize) {
+        assertThatThrownBy(() ->
+                Gatherers4j.movingFrequency(windowSize, 1)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void limitMustBePositive(final int limit) {
+        assertThatThrownBy(() ->
+                Gatherers4j.movingFrequency(2, limit)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.WithCount;
+import com.ginsberg.gatherers4j.dto.WithOriginal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovingModeGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.movingMode(3))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void movingMode() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "A", "B", "B", "C");
+
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.movingMode(3))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithCount<>("A", 1),
+                new WithCount<>("A", 1),
+                new WithCount<>("A", 2),
+                new WithCount<>("A", 2),
+                new WithCount<>("A", 2),
+                new WithCount<>("B", 2),
+                new WithCount<>("B", 2)
+        );
+    }
+
+    @Test
+    void movingModeExcludingPartialValues() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "A", "A", "B", "B", "C");
+
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.<String>movingMode(3).excludePartialValues())
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithCount<>("A", 2),
+                new WithCount<>("A", 2),
+                new WithCount<>("A", 2),
+                new WithCount<>("B", 2),
+                new WithCount<>("B", 2)
+        );
+    }
+
+    @Test
+    void tiesFavorTheLongestHeldCount() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C");
+
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.movingMode(2))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithCount<>("A", 1),
+                new WithCount<>("A", 1),
+                new WithCount<>("B", 1)
+        );
+    }
+
+    @Test
+    void movingModeWithNulls() {
+        // Arrange
+        final Stream<String> input = Stream.of(null, "A", null);
+
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.movingMode(3))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithCount<>(null, 1),
+                new WithCount<>(null, 1),
+                new WithCount<>(null, 2)
+        );
+    }
+
+    @Test
+    void movingModeWithOriginal() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "B");
+
+        // Act
+        final List<WithOriginal<String, WithCount<String>>> output = input
+                .gather(Gatherers4j.<String>movingMode(2).withOriginal())
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithOriginal<>("A", new WithCount<>("A", 1)),
+                new WithOriginal<>("B", new WithCount<>("A", 1)),
+                new WithOriginal<>("B", new WithCount<>("B", 2))
+        );
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "B", "B");
+
+        // Act
+        final List<WithCount<String>> output = input
+                .gather(Gatherers4j.movingMode(2))
+                .limit(2)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new WithCount<>("A", 1),
+                new WithCount<>("A", 1)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 1})
+    void windowSizeMustBeGreaterThanOne(final int windowSize) {
+        assertThatThrownBy(() ->
+                Gatherers4j.movingMode(windowSize)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveDistinctGathererTest {
+
+    record Event(long id, String name) {
+    }
+
+    @Test
+    void distinctByLong() {
+        // Arrange
+        final Stream<Event> input = Stream.of(
+                new Event(1, "A"),
+                new Event(2, "B"),
+                new Event(1, "C"),
+                new Event(0, "D"),
+                new Event(0, "E")
+        );
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.distinctByLong(Event::id))
+                .map(Event::name)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "B", "D");
+    }
+
+    @Test
+    void distinctByInt() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "BB", "C", "DDD", "EE");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.distinctByInt(String::length))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "BB", "DDD");
+    }
+
+    @Test
+    void distinctByLongManyKeys() {
+        // Arrange
+        final Stream<Long> input = LongStream.range(0, 300_000).map(it -> (it % 100_000) * 31).boxed();
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.distinctByLong(Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).hasSize(100_000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void distinctByLongOffHeap() {
+        // Arrange
+        final Stream<Long> input = LongStream.range(0, 300_000).map(it -> (it % 100_000) * 31).boxed();
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.distinctByLong(Long::longValue).offHeap())
+                .toList();
+
+        // Assert
+        assertThat(output).hasSize(100_000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void distinctByIntOffHeap() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "BB", "C", "DDD", "EE");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.distinctByInt(String::length).offHeap())
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "BB", "DDD");
+    }
+
+    @Test
+    void offHeapWithDownstreamRejection() {
+        // Arrange
+        final Stream<Long> input = LongStream.range(0, 100).boxed();
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.distinctByLong(Long::longValue).offHeap())
+                .limit(3)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<Long> input = Stream.empty();
+
+        // Act
+        final List<Long> output = input
+                .gather(Gatherers4j.distinctByLong(Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void distinctByLongMappingFunctionMustNotBeNull() {
+        assertThatThrownBy(() -> Gatherers4j.distinctByLong(null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void distinctByIntMappingFunctionMustNotBeNull() {
+        assertThatThrownBy(() -> Gatherers4j.distinctByInt(null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveDropLastGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<int[]> output = input
+                .gather(Gatherers4j.dropLastAsInts(2, String::length))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void dropLastAsInts() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "BB", "CCC", "DDDD");
+
+        // Act
+        final List<int[]> output = input
+                .gather(Gatherers4j.dropLastAsInts(2, String::length))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new int[]{1, 2});
+    }
+
+    @Test
+    void dropLastAsDoublesFewerThanCount() {
+        // Arrange
+        final Stream<String> input = Stream.of("1.5", "2.5");
+
+        // Act
+        final List<double[]> output = input
+                .gather(Gatherers4j.dropLastAsDoubles(5, Double::parseDouble))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void dropLastAsLongsEmitsBlocks() {
+        // Arrange
+        final Stream<Integer> input = IntStream.range(0, 3_000).boxed();
+
+        // Act
+        final List<long[]> output = input
+                .gather(Gatherers4j.dropLastAsLongs(10, Integer::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).extracting(it -> it.length).containsExactly(1024, 1024, 942);
+        assertThat(output.stream().flatMapToLong(Arrays::stream).toArray())
+                .isEqualTo(LongStream.range(0, 2_990).toArray());
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<Integer> input = IntStream.range(0, 5_000).boxed();
+
+        // Act
+        final List<int[]> output = input
+                .gather(Gatherers4j.dropLastAsInts(1, Integer::intValue))
+                .limit(1)
+                .toList();
+
+        // Assert
+        assertThat(output).hasSize(1);
+        assertThat(output.getFirst()).hasSize(1024).startsWith(0, 1, 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void countMustBePositive(final int count) {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>dropLastAsInts(count, String::length)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void mappingFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>dropLastAsInts(1, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveLastGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<int[]> output = input
+                .gather(Gatherers4j.takeLastAsInts(2, String::length))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void takeLastAsInts() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "BB", "CCC", "DDDD");
+
+        // Act
+        final List<int[]> output = input
+                .gather(Gatherers4j.takeLastAsInts(2, String::length))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new int[]{3, 4});
+    }
+
+    @Test
+    void takeLastAsIntsParallel() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+        // Act
+        final int[] output = input.parallelStream()
+                .gather(Gatherers4j.takeLastAsInts(5_000, Integer::intValue))
+                .flatMapToInt(IntStream::of)
+                .toArray();
+
+        // Assert
+        assertThat(output).isEqualTo(IntStream.range(95_000, 100_000).toArray());
+    }
+
+    @Test
+    void takeLastAsLongs() {
+        // Arrange
+        final Stream<Integer> input = IntStream.range(0, 1_000).boxed();
+
+        // Act
+        final List<long[]> output = input
+                .gather(Gatherers4j.takeLastAsLongs(3, Integer::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new long[]{997, 998, 999});
+    }
+
+    @Test
+    void takeLastAsDoublesFewerThanCount() {
+        // Arrange
+        final Stream<String> input = Stream.of("1.5", "2.5");
+
+        // Act
+        final List<double[]> output = input
+                .gather(Gatherers4j.takeLastAsDoubles(5, Double::parseDouble))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new double[]{1.5, 2.5});
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void countMustBePositive(final int count) {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>takeLastAsInts(count, String::length)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void mappingFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>takeLastAsInts(1, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveWindowGathererTest {
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<int[]> output = input
+                .gather(Gatherers4j.windowAsInts(2, 2, true, String::length))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void windowAsIntsExcludingPartials() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "BB", "CCC", "DDDD", "EEEEE");
+
+        // Act
+        final List<int[]> output = input
+                .gather(Gatherers4j.windowAsInts(2, 2, false, String::length))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new int[]{1, 2}, new int[]{3, 4});
+    }
+
+    @Test
+    void windowAsLongsSlidingWithPartials() {
+        // Arrange
+        final Stream<Long> input = Stream.of(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+        // Act
+        final List<long[]> output = input
+                .gather(Gatherers4j.windowAsLongs(5, 2, true, Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new long[]{1, 2, 3, 4, 5},
+                new long[]{3, 4, 5, 6, 7},
+                new long[]{5, 6, 7},
+                new long[]{7}
+        );
+    }
+
+    @Test
+    void windowAsDoublesSkipping() {
+        // Arrange
+        final Stream<String> input = Stream.of("1", "2", "3", "4", "5", "6", "7");
+
+        // Act
+        final List<double[]> output = input
+                .gather(Gatherers4j.windowAsDoubles(2, 3, true, Double::parseDouble))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new double[]{1, 2}, new double[]{4, 5}, new double[]{7});
+    }
+
+    @Test
+    void windowSizeMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>windowAsInts(0, 1, true, String::length)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void steppingMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>windowAsInts(1, 0, true, String::length)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void mappingFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>windowAsInts(1, 1, true, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -21,8 +21,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static com.ginsberg.gatherers4j.util.TestUtils.STRING_SERIALIZER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -77,6 +79,38 @@ class RepeatingGathererTest {
         }
     }
 
+    @Test
+    void spillableFiniteRepeat() {
+        // Arrange
+        final List<String> input = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+
+        // Act
+        final List<String> output = input.stream()
+                .gather(Gatherers4j.<String>repeat(3).spillable(100, STRING_SERIALIZER))
+                .toList();
+
+        // Assert
+        assertThat(output).hasSize(30_000);
+        assertThat(output.subList(0, 10_000)).isEqualTo(input);
+        assertThat(output.subList(10_000, 20_000)).isEqualTo(input);
+        assertThat(output.subList(20_000, 30_000)).isEqualTo(input);
+    }
+
+    @Test
+    void spillableInfiniteRepeat() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C");
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>repeatInfinitely().spillable(10, STRING_SERIALIZER))
+                .limit(7)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly("A", "B", "C", "A", "B", "C", "A");
+    }
+
     @ParameterizedTest(name = "With {0} repeats")
     @ValueSource(ints = {Integer.MIN_VALUE, -1})
     void numberOfRepeatsMustBeNegative(int repeats) {
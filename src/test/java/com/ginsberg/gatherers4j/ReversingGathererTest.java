@@ -16,12 +16,16 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static com.ginsberg.gatherers4j.util.TestUtils.STRING_SERIALIZER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ReversingGathererTest {
 
@@ -48,4 +52,82 @@ class ReversingGathererTest {
         // Assert
         assertThat(output).containsExactly("G", "F", "E", "D", "C", "B", "A");
     }
+
+    @ParallelAndSequentialTest(values = {"A", "B", "C", "D", "E", "F", "G"})
+    void reverseParallelAndSequential(final Stream<String> input) {
+        // Act
+        final List<String> output = input.gather(Gatherers4j.reverse()).toList();
+
+        // Assert
+        assertThat(output).containsExactly("G", "F", "E", "D", "C", "B", "A");
+    }
+
+    @Test
+    void parallelReverse() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+        // Act
+        final List<Integer> output = input.parallelStream().gather(Gatherers4j.reverse()).toList();
+
+        // Assert
+        assertThat(output).isEqualTo(input.reversed());
+    }
+
+    @Test
+    void parallelSpillableReverse() {
+        // Arrange
+        final List<String> input = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+
+        // Act
+        final List<String> output = input.parallelStream()
+                .gather(Gatherers4j.<String>reverse().spillable(100, STRING_SERIALIZER))
+                .toList();
+
+        // Assert
+        assertThat(output).isEqualTo(input.reversed());
+    }
+
+    @Test
+    void spillableReverse() {
+        // Arrange
+        final List<String> input = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+
+        // Act
+        final List<String> output = input.stream()
+                .gather(Gatherers4j.<String>reverse().spillable(100, STRING_SERIALIZER))
+                .toList();
+
+        // Assert
+        assertThat(output).isEqualTo(input.reversed());
+    }
+
+    @Test
+    void spillableReverseEmptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>reverse().spillable(100, STRING_SERIALIZER))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void spillableMemoryBudgetMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>reverse().spillable(0, STRING_SERIALIZER)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void spillableSerializerMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>reverse().spillable(100, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
 }
\ No newline at end of file
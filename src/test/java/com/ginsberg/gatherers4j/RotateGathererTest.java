@@ -27,6 +27,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static com.ginsberg.gatherers4j.util.TestUtils.STRING_SERIALIZER;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class RotateGathererTest {
@@ -63,6 +64,21 @@ class RotateGathererTest {
             assertThat(output).isEqualTo(expected);
         }
 
+        @ParameterizedTest(name = "Spillable Left Rotate {0}")
+        @MethodSource(value = "rotateLeftArguments")
+        void spillableRotateLeft(final int rotateSize, final List<String> expected) {
+            // Arrange
+            final Stream<String> input = Stream.of("A", "B", "C", "D", "E");
+
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.<String>rotate(Rotate.Left, rotateSize).spillable(10, STRING_SERIALIZER))
+                    .toList();
+
+            // Assert
+            assertThat(output).isEqualTo(expected);
+        }
+
         private static Stream<Arguments> rotateLeftArguments() {
             return Stream.of(
                     Arguments.arguments(1, List.of("B", "C", "D", "E", "A")),
@@ -143,6 +159,21 @@ class RotateGathererTest {
             assertThat(output).isEqualTo(expected);
         }
 
+        @ParameterizedTest(name = "Spillable Right Rotate {0}")
+        @MethodSource(value = "rotateRightArguments")
+        void spillableRotateRight(final int rotateSize, final List<String> expected) {
+            // Arrange
+            final Stream<String> input = Stream.of("A", "B", "C", "D", "E");
+
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.<String>rotate(Rotate.Right, rotateSize).spillable(10, STRING_SERIALIZER))
+                    .toList();
+
+            // Assert
+            assertThat(output).isEqualTo(expected);
+        }
+
         @Test
         void rotateZero() {
             // Arrange
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.SessionWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionWindowGathererTest {
+
+    record Event(String user, long timestamp) {
+    }
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<Event> input = Stream.empty();
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10)))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void sessionsPerKeyInExpiryOrder() {
+        // Arrange
+        final Event a1 = new Event("A", 1);
+        final Event b2 = new Event("B", 2);
+        final Event a5 = new Event("A", 5);
+        final Event b20 = new Event("B", 20);
+        final Event a30 = new Event("A", 30);
+        final Stream<Event> input = Stream.of(a1, b2, a5, b20, a30);
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new SessionWindow<>("B", 2, 12, List.of(b2)),
+                new SessionWindow<>("A", 1, 15, List.of(a1, a5)),
+                new SessionWindow<>("B", 20, 30, List.of(b20)),
+                new SessionWindow<>("A", 30, 40, List.of(a30))
+        );
+    }
+
+    @Test
+    void remainingSessionsEmittedInExpiryOrder() {
+        // Arrange
+        final Event a1 = new Event("A", 1);
+        final Event b2 = new Event("B", 2);
+        final Event a3 = new Event("A", 3);
+        final Stream<Event> input = Stream.of(a1, b2, a3);
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new SessionWindow<>("B", 2, 12, List.of(b2)),
+                new SessionWindow<>("A", 1, 13, List.of(a1, a3))
+        );
+    }
+
+    @Test
+    void nullKeys() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C");
+
+        // Act
+        final List<SessionWindow<String, String>> output = input
+                .gather(Gatherers4j.<String, String>sessionWindowBy(_ -> null, _ -> 0L, Duration.ofMillis(10)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(new SessionWindow<>(null, 0, 10, List.of("A", "B", "C")));
+    }
+
+    @Test
+    void lateElementsAreDropped() {
+        // Arrange
+        final Event a1 = new Event("A", 1);
+        final Event b50 = new Event("B", 50);
+        final Event c3 = new Event("C", 3);
+        final Stream<Event> input = Stream.of(a1, b50, c3);
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new SessionWindow<>("A", 1, 11, List.of(a1)),
+                new SessionWindow<>("B", 50, 60, List.of(b50))
+        );
+    }
+
+    @Test
+    void lateElementsWithinLagAreIncluded() {
+        // Arrange
+        final Event a10 = new Event("A", 10);
+        final Event b25 = new Event("B", 25);
+        final Event a15 = new Event("A", 15);
+        final Event c12 = new Event("C", 12);
+        final Stream<Event> input = Stream.of(a10, b25, a15, c12);
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10))
+                        .withWatermarkLag(Duration.ofMillis(10)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new SessionWindow<>("C", 12, 22, List.of(c12)),
+                new SessionWindow<>("A", 10, 25, List.of(a10, a15)),
+                new SessionWindow<>("B", 25, 35, List.of(b25))
+        );
+    }
+
+    @Test
+    void lagDoesNotJoinSessionsMoreThanGapApart() {
+        // Arrange
+        final Event a0 = new Event("A", 0);
+        final Event a30 = new Event("A", 30_000);
+        final Event a60 = new Event("A", 60_000);
+        final Stream<Event> input = Stream.of(a0, a30, a60);
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofSeconds(10))
+                        .withWatermarkLag(Duration.ofMinutes(5)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new SessionWindow<>("A", 0, 10_000, List.of(a0)),
+                new SessionWindow<>("A", 30_000, 40_000, List.of(a30)),
+                new SessionWindow<>("A", 60_000, 70_000, List.of(a60))
+        );
+    }
+
+    @Test
+    void lateElementJoinsTwoHeldSessions() {
+        // Arrange
+        final Event a0 = new Event("A", 0);
+        final Event a16 = new Event("A", 16);
+        final Event a8 = new Event("A", 8);
+        final Event a40 = new Event("A", 40);
+        final Stream<Event> input = Stream.of(a0, a16, a8, a40);
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10))
+                        .withWatermarkLag(Duration.ofMillis(50)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new SessionWindow<>("A", 0, 26, List.of(a0, a16, a8)),
+                new SessionWindow<>("A", 40, 50, List.of(a40))
+        );
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<Event> input = Stream.of(
+                new Event("A", 1),
+                new Event("A", 20),
+                new Event("A", 40),
+                new Event("A", 60)
+        );
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10)))
+                .limit(2)
+                .toList();
+
+        // Assert
+        assertThat(output)
+                .extracting(SessionWindow::start)
+                .containsExactly(1L, 20L);
+    }
+
+    @Test
+    void sessionsAreUnmodifiable() {
+        // Arrange
+        final Stream<Event> input = Stream.of(new Event("A", 1));
+
+        // Act
+        final List<SessionWindow<String, Event>> output = input
+                .gather(Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(10)))
+                .toList();
+
+        // Assert
+        assertThatThrownBy(() -> output.getFirst().elements().add(new Event("A", 2)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void keyFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<Event, String>sessionWindowBy(null, Event::timestamp, Duration.ofMillis(1))
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void timestampFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.sessionWindowBy(Event::user, null, Duration.ofMillis(1))
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void gapMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ZERO)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void watermarkLagMustNotBeNegative() {
+        assertThatThrownBy(() ->
+                Gatherers4j.sessionWindowBy(Event::user, Event::timestamp, Duration.ofMillis(1))
+                        .withWatermarkLag(Duration.ofMillis(-1))
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
@@ -23,8 +24,10 @@ import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static com.ginsberg.gatherers4j.util.TestUtils.STRING_SERIALIZER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -64,6 +67,131 @@ class ShufflingGathererTest {
         assertThat(output).hasSizeGreaterThan(1);
     }
 
+    @ParallelAndSequentialTest(values = {"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P"})
+    void shuffleEmitsEveryElement(final Stream<String> input) {
+        // Act
+        final List<String> output = input.gather(Gatherers4j.shuffle()).toList();
+
+        // Assert
+        assertThat(output).containsExactlyInAnyOrder(
+                "A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P"
+        );
+    }
+
+    @Test
+    void parallelShuffleEmitsEveryElement() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+        // Act
+        final List<Integer> output = input.parallelStream().gather(Gatherers4j.shuffle()).toList();
+
+        // Assert
+        assertThat(output)
+                .containsExactlyInAnyOrderElementsOf(input)
+                .isNotEqualTo(input);
+    }
+
+    @Test
+    void knownSeededShuffle() {
+        // Arrange
+        final Stream<String> input = Stream.of("A", "B", "C", "D", "E", "F", "G");
+
+        // Act
+        final String output = input
+                .gather(Gatherers4j.shuffleWithSeed(42))
+                .collect(Collectors.joining());
+
+        // Assert
+        assertThat(output).isEqualTo("CABFGED");
+    }
+
+    @Test
+    void seededShuffleIsReproducible() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 1_000).boxed().toList();
+
+        // Act
+        final List<Integer> first = input.stream().gather(Gatherers4j.<Integer>shuffleWithSeed(42)).toList();
+        final List<Integer> second = input.stream().gather(Gatherers4j.<Integer>shuffleWithSeed(42)).toList();
+        final List<Integer> otherSeed = input.stream().gather(Gatherers4j.<Integer>shuffleWithSeed(43)).toList();
+
+        // Assert
+        assertThat(first).isEqualTo(second).isNotEqualTo(otherSeed);
+    }
+
+    @Test
+    void parallelSeededShuffleEmitsEveryElement() {
+        // Arrange
+        final List<Integer> input = IntStream.range(0, 100_000).boxed().toList();
+
+        // Act
+        final List<Integer> output = input.parallelStream().gather(Gatherers4j.<Integer>shuffleWithSeed(42)).toList();
+
+        // Assert
+        assertThat(output).containsExactlyInAnyOrderElementsOf(input);
+    }
+
+    @Test
+    void externalShuffleEmitsEveryElement() {
+        // Arrange
+        final List<String> input = IntStream.range(0, 50_000).mapToObj(String::valueOf).toList();
+
+        // Act
+        final List<String> output = input.stream()
+                .gather(Gatherers4j.<String>shuffle(new Random(42)).withExternalBuckets(4, STRING_SERIALIZER))
+                .toList();
+
+        // Assert
+        assertThat(output)
+                .containsExactlyInAnyOrderElementsOf(input)
+                .isNotEqualTo(input);
+    }
+
+    @Test
+    void externalShuffleEmptyStream() {
+        // Arrange
+        final Stream<String> input = Stream.empty();
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>shuffle().withExternalBuckets(4, STRING_SERIALIZER))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void externalShuffleStopsWhenDownstreamRejects() {
+        // Arrange
+        final Stream<String> input = IntStream.range(0, 50_000).mapToObj(String::valueOf);
+
+        // Act
+        final List<String> output = input
+                .gather(Gatherers4j.<String>shuffle().withExternalBuckets(4, STRING_SERIALIZER))
+                .limit(10)
+                .toList();
+
+        // Assert
+        assertThat(output).hasSize(10).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void externalBucketsMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>shuffle().withExternalBuckets(0, STRING_SERIALIZER)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void externalSerializerMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<String>shuffle().withExternalBuckets(4, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void withNullRandomGenerator() {
         // Arrange
@@ -20,6 +20,8 @@ import com.ginsberg.gatherers4j.enums.Size;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -78,6 +80,23 @@ class SizeGathererTest {
     @Nested
     class Equals {
 
+        @Test
+        void doesNotEmitUntilInputIsExhausted() {
+            // Arrange
+            final List<String> seen = new ArrayList<>();
+            final Iterator<String> output = Stream.of("A", "B", "C")
+                    .peek(seen::add)
+                    .gather(Gatherers4j.ensureSize(Size.Equals, 3))
+                    .iterator();
+
+            // Act
+            final String first = output.next();
+
+            // Assert
+            assertThat(first).isEqualTo("A");
+            assertThat(seen).containsExactly("A", "B", "C");
+        }
+
         @Test
         void doesNotEmitOverTarget() {
             assertThatThrownBy(() ->
@@ -133,6 +152,40 @@ class SizeGathererTest {
             // Assert
             assertThat(output).containsExactly("A", "B", "C");
         }
+
+        @Test
+        void emitsAsSoonAsOverTarget() {
+            // Arrange
+            final List<String> seen = new ArrayList<>();
+            final Iterator<String> output = Stream.of("A", "B", "C", "D", "E")
+                    .peek(seen::add)
+                    .gather(Gatherers4j.ensureSize(Size.GreaterThan, 2))
+                    .iterator();
+
+            // Act
+            final List<String> firstFour = List.of(output.next(), output.next(), output.next(), output.next());
+
+            // Assert
+            assertThat(firstFour).containsExactly("A", "B", "C", "D");
+            assertThat(seen).containsExactly("A", "B", "C", "D");
+        }
+
+        @Test
+        void stopsWhenDownstreamRejects() {
+            // Arrange
+            final List<String> seen = new ArrayList<>();
+            final Stream<String> input = Stream.of("A", "B", "C", "D", "E").peek(seen::add);
+
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.ensureSize(Size.GreaterThan, 1))
+                    .limit(3)
+                    .toList();
+
+            // Assert
+            assertThat(output).containsExactly("A", "B", "C");
+            assertThat(seen).containsExactly("A", "B", "C");
+        }
     }
 
     @Nested
@@ -169,6 +222,34 @@ class SizeGathererTest {
             assertThat(output).containsExactly("A", "B", "C");
         }
 
+        @Test
+        void emitsAsSoonAsAtTarget() {
+            // Arrange
+            final List<String> seen = new ArrayList<>();
+            final Iterator<String> output = Stream.of("A", "B", "C", "D")
+                    .peek(seen::add)
+                    .gather(Gatherers4j.ensureSize(Size.GreaterThanOrEqualTo, 2))
+                    .iterator();
+
+            // Act
+            final List<String> firstTwo = List.of(output.next(), output.next());
+
+            // Assert
+            assertThat(firstTwo).containsExactly("A", "B");
+            assertThat(seen).containsExactly("A", "B");
+        }
+
+        @Test
+        void emitsEverythingWhenTargetIsZero() {
+            // Arrange
+            final Stream<String> input = Stream.of("A", "B");
+
+            // Act
+            final List<String> output = input.gather(Gatherers4j.ensureSize(Size.GreaterThanOrEqualTo, 0)).toList();
+
+            // Assert
+            assertThat(output).containsExactly("A", "B");
+        }
     }
 
     @Nested
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j;
+
+import com.ginsberg.gatherers4j.dto.TimeWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeWindowGathererTest {
+
+    record Event(long timestamp, String name) {
+    }
+
+    @Test
+    void emptyStream() {
+        // Arrange
+        final Stream<Event> input = Stream.empty();
+
+        // Act
+        final List<TimeWindow<Event>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(10), Event::timestamp))
+                .toList();
+
+        // Assert
+        assertThat(output).isEmpty();
+    }
+
+    @Test
+    void tumblingWindows() {
+        // Arrange
+        final Stream<Long> input = Stream.of(1L, 2L, 11L, 12L, 25L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(10), Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new TimeWindow<>(0, 10, List.of(1L, 2L)),
+                new TimeWindow<>(10, 20, List.of(11L, 12L)),
+                new TimeWindow<>(20, 30, List.of(25L))
+        );
+    }
+
+    @Test
+    void hoppingWindowsOverlap() {
+        // Arrange
+        final Stream<Long> input = Stream.of(0L, 5L, 10L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(5), Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new TimeWindow<>(-5, 5, List.of(0L)),
+                new TimeWindow<>(0, 10, List.of(0L, 5L)),
+                new TimeWindow<>(5, 15, List.of(5L, 10L)),
+                new TimeWindow<>(10, 20, List.of(10L))
+        );
+    }
+
+    @Test
+    void hopLargerThanSizeDropsElementsBetweenWindows() {
+        // Arrange
+        final Stream<Long> input = Stream.of(0L, 4L, 5L, 10L, 19L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(5), Duration.ofMillis(10), Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new TimeWindow<>(0, 5, List.of(0L, 4L)),
+                new TimeWindow<>(10, 15, List.of(10L))
+        );
+    }
+
+    @Test
+    void emptyWindowsAreNotEmitted() {
+        // Arrange
+        final Stream<Long> input = Stream.of(1L, 1_000_000_000L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(1), Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).hasSize(20);
+        assertThat(output).allSatisfy(window -> assertThat(window.elements()).hasSize(1));
+    }
+
+    @Test
+    void lateElementsWithinLagAreIncluded() {
+        // Arrange
+        final Stream<Long> input = Stream.of(1L, 12L, 8L, 21L, 15L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(10), Long::longValue)
+                        .withWatermarkLag(Duration.ofMillis(5)))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new TimeWindow<>(0, 10, List.of(1L, 8L)),
+                new TimeWindow<>(10, 20, List.of(12L, 15L)),
+                new TimeWindow<>(20, 30, List.of(21L))
+        );
+    }
+
+    @Test
+    void lateElementsBeyondLagAreDropped() {
+        // Arrange
+        final Stream<Long> input = Stream.of(1L, 12L, 8L, 15L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(10), Long::longValue))
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new TimeWindow<>(0, 10, List.of(1L)),
+                new TimeWindow<>(10, 20, List.of(12L, 15L))
+        );
+    }
+
+    @Test
+    void windowsEmittedAsWatermarkPasses() {
+        // Arrange
+        final List<Long> seen = new ArrayList<>();
+        final Iterator<TimeWindow<Long>> output = Stream.of(1L, 2L, 11L, 12L, 21L)
+                .peek(seen::add)
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(10), Long::longValue))
+                .iterator();
+
+        // Act
+        final TimeWindow<Long> first = output.next();
+
+        // Assert
+        assertThat(first).isEqualTo(new TimeWindow<>(0, 10, List.of(1L, 2L)));
+        assertThat(seen).containsExactly(1L, 2L, 11L);
+    }
+
+    @Test
+    void downstreamRejection() {
+        // Arrange
+        final Stream<Long> input = Stream.of(1L, 11L, 21L, 31L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(10), Long::longValue))
+                .limit(2)
+                .toList();
+
+        // Assert
+        assertThat(output).containsExactly(
+                new TimeWindow<>(0, 10, List.of(1L)),
+                new TimeWindow<>(10, 20, List.of(11L))
+        );
+    }
+
+    @Test
+    void windowsAreUnmodifiable() {
+        // Arrange
+        final Stream<Long> input = Stream.of(1L);
+
+        // Act
+        final List<TimeWindow<Long>> output = input
+                .gather(Gatherers4j.windowByTime(Duration.ofMillis(10), Duration.ofMillis(10), Long::longValue))
+                .toList();
+
+        // Assert
+        assertThatThrownBy(() -> output.getFirst().elements().add(2L))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void sizeMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.windowByTime(Duration.ZERO, Duration.ofMillis(1), Event::timestamp)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void hopMustBePositive() {
+        assertThatThrownBy(() ->
+                Gatherers4j.windowByTime(Duration.ofMillis(1), Duration.ZERO, Event::timestamp)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void timestampFunctionMustNotBeNull() {
+        assertThatThrownBy(() ->
+                Gatherers4j.<Event>windowByTime(Duration.ofMillis(1), Duration.ofMillis(1), null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void watermarkLagMustNotBeNegative() {
+        assertThatThrownBy(() ->
+                Gatherers4j.windowByTime(Duration.ofMillis(1), Duration.ofMillis(1), Event::timestamp)
+                        .withWatermarkLag(Duration.ofMillis(-1))
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -301,4 +301,71 @@ class UniquelyOccurringGathererTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Nested
+    class UniquelyOccurringByLong {
+
+        @SuppressWarnings("DataFlowIssue")
+        @Test
+        void mappingFunctionMustNotBeNull() {
+            assertThatThrownBy(() ->
+                    Gatherers4j.uniquelyOccurringByLong(null)
+            ).isExactlyInstanceOf(IllegalArgumentException.class);
+        }
+
+        @ParallelAndSequentialTest
+        void emitsEmptyOnEmptyStream(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.uniquelyOccurringByLong(String::length))
+                    .toList();
+
+            // Assert
+            assertThat(output).isEmpty();
+        }
+
+        @ParallelAndSequentialTest(values = {"A", "BB", "CCC", "D", "EEEE", "FFF", "GGGGG", "H"})
+        void emitsInEncounterOrder(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.uniquelyOccurringByLong(String::length))
+                    .toList();
+
+            // Assert
+            assertThat(output).containsExactly("BB", "EEEE", "GGGGG");
+        }
+
+        @ParallelAndSequentialTest(values = {"", "A", "", "B", "CC"})
+        void zeroKeyIsTracked(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.uniquelyOccurringByLong(String::length))
+                    .toList();
+
+            // Assert
+            assertThat(output).containsExactly("CC");
+        }
+
+        @ParallelAndSequentialTest(values = {"A", "A", "B", "B", "C", "C", "D", "D"})
+        void emitsEmptyOnNoUniqueItems(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.uniquelyOccurringByLong(it -> it.charAt(0)))
+                    .toList();
+
+            // Assert
+            assertThat(output).isEmpty();
+        }
+
+        @ParallelAndSequentialTest(values = {"A", "B", "C", "A"})
+        void uniqueThatBecomesDuplicateIsRemoved(final Stream<String> input) {
+            // Act
+            final List<String> output = input
+                    .gather(Gatherers4j.uniquelyOccurringByLong(it -> it.charAt(0)))
+                    .toList();
+
+            // Assert
+            assertThat(output).containsExactly("B", "C");
+        }
+    }
+}
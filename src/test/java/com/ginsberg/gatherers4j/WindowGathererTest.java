@@ -16,12 +16,15 @@
 
 package com.ginsberg.gatherers4j;
 
+import com.ginsberg.gatherers4j.test.ParallelAndSequentialTest;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -169,4 +172,114 @@ class WindowGathererTest {
                 );
     }
 
-}
\ No newline at end of file
+
+    @Nested
+    class WithParallelSupport {
+
+        @ParallelAndSequentialTest(values = {"A", "B", "C", "D", "E", "F", "G"})
+        void tumblingWindowsIncludingPartials(final Stream<String> input) {
+            // Act
+            final List<List<String>> output = input.gather(
+                    Gatherers4j.<String>window(2, 2, true).withParallelSupport()
+            ).toList();
+
+            // Assert
+            assertThat(output)
+                    .containsExactly(
+                            List.of("A", "B"),
+                            List.of("C", "D"),
+                            List.of("E", "F"),
+                            List.of("G")
+                    );
+        }
+
+        @ParallelAndSequentialTest(values = {"A", "B", "C", "D", "E", "F", "G"})
+        void tumblingWindowsExcludingPartials(final Stream<String> input) {
+            // Act
+            final List<List<String>> output = input.gather(
+                    Gatherers4j.<String>window(3, 3, false).withParallelSupport()
+            ).toList();
+
+            // Assert
+            assertThat(output)
+                    .containsExactly(
+                            List.of("A", "B", "C"),
+                            List.of("D", "E", "F")
+                    );
+        }
+
+        @ParallelAndSequentialTest(values = {"A", "B", "C", "D", "E", "F", "G"})
+        void slidingWindows(final Stream<String> input) {
+            // Act
+            final List<List<String>> output = input.gather(
+                    Gatherers4j.<String>window(5, 2, true).withParallelSupport()
+            ).toList();
+
+            // Assert
+            assertThat(output)
+                    .containsExactly(
+                            List.of("A", "B", "C", "D", "E"),
+                            List.of("C", "D", "E", "F", "G"),
+                            List.of("E", "F", "G"),
+                            List.of("G")
+                    );
+        }
+
+        @ParallelAndSequentialTest
+        void emptyStream(final Stream<String> input) {
+            // Act
+            final List<List<String>> output = input.gather(
+                    Gatherers4j.<String>window(2, 2, true).withParallelSupport()
+            ).toList();
+
+            // Assert
+            assertThat(output).isEmpty();
+        }
+
+        @Test
+        void sameAsSequentialForLargeParallelStream() {
+            // Arrange
+            final List<List<Integer>> expected = IntStream.range(0, 100_000)
+                    .boxed()
+                    .gather(Gatherers4j.window(7, 7, true))
+                    .toList();
+
+            // Act
+            final List<List<Integer>> output = IntStream.range(0, 100_000)
+                    .boxed()
+                    .parallel()
+                    .gather(Gatherers4j.<Integer>window(7, 7, true).withParallelSupport())
+                    .toList();
+
+            // Assert
+            assertThat(output).isEqualTo(expected);
+        }
+
+        @Test
+        void parallelStateDoesNotAllocateSequentialWindow() {
+            // Act
+            final WindowGatherer.State<Integer> state = Gatherers4j.<Integer>window(1_000_000, 1, true)
+                    .withParallelSupport()
+                    .initializer()
+                    .get();
+
+            // Assert
+            assertThat(state.window).isNull();
+        }
+
+        @Test
+        void windowsAreUnmodifiable() {
+            // Arrange
+            final List<List<Integer>> output = IntStream.range(0, 1_000)
+                    .boxed()
+                    .parallel()
+                    .gather(Gatherers4j.<Integer>window(10, 10, true).withParallelSupport())
+                    .toList();
+
+            // Act/Assert
+            assertThatThrownBy(() -> output.getFirst().add(1))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void addReportsNewHashes() {
+        // Arrange
+        final BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // Act
+        final boolean first = filter.add(42);
+        final boolean second = filter.add(42);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    void noFalseNegatives() {
+        // Arrange
+        final BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // Act
+        for (long i = 0; i < 10_000; i++) {
+            filter.add(i);
+        }
+
+        // Assert
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateWhenFull() {
+        // Arrange
+        final BloomFilter filter = new BloomFilter(100_000, 0.001);
+        for (long i = 0; i < 100_000; i++) {
+            filter.add(i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (long i = 100_000; i < 1_100_000; i++) {
+            if (filter.mightContain(i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertThat(falsePositives).isLessThan(1_300);
+    }
+
+    @Test
+    void sizedForRequest() {
+        // Act
+        final BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        // Assert
+        assertThat(filter.bitSize()).isBetween(9_600_000L, 11_000_000L);
+        assertThat(filter.hashCount()).isBetween(5, 8);
+    }
+
+    @Test
+    void supplierValidatesUpFront() {
+        assertThatThrownBy(() -> BloomFilter.supplier(-1, 0.01))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoubleCircularBufferTest {
+
+    @Test
+    void addOverwritesFirst() {
+        // Arrange
+        final DoubleCircularBuffer cb = new DoubleCircularBuffer(2);
+
+        // Act
+        cb.add(1.0);
+        cb.add(2.0);
+        cb.add(3.0);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(2.0, 3.0);
+    }
+
+    @Test
+    void addAll() {
+        // Arrange
+        final DoubleCircularBuffer cb = new DoubleCircularBuffer(3);
+        cb.add(1.0);
+
+        // Act
+        cb.addAll(new double[]{2.0, 3.0, 4.0}, 1, 2);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(1.0, 3.0, 4.0);
+    }
+
+    @Test
+    void removeFirst() {
+        // Arrange
+        final DoubleCircularBuffer cb = new DoubleCircularBuffer(3);
+        cb.add(1.0);
+        cb.add(2.0);
+
+        // Act
+        final double removed = cb.removeFirst();
+
+        // Assert
+        assertThat(removed).isEqualTo(1.0);
+        assertThat(cb.get(0)).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashingTest {
+
+    @Test
+    void uuidsWithEqualHashCodesHashDifferently() {
+        // Arrange
+        final List<UUID> input = IntStream.range(0, 10_000).mapToObj(it -> new UUID(it, it)).toList();
+
+        // Act
+        final Set<Long> output = input.stream().map(Hashing::hash).collect(Collectors.toSet());
+
+        // Assert
+        assertThat(input).extracting(UUID::hashCode).containsOnly(0);
+        assertThat(output).hasSize(10_000);
+    }
+
+    @Test
+    void enumsHashByName() {
+        // Act
+        final long first = Hashing.hash(TimeUnit.SECONDS);
+        final long second = Hashing.hash(TimeUnit.MINUTES);
+
+        // Assert
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first).isEqualTo(Hashing.hash(TimeUnit.valueOf("SECONDS")));
+    }
+
+    @Test
+    void listsHashEqualListsTheSame() {
+        // Arrange
+        final List<Object> first = List.of("A", 1L, UUID.fromString("6ba7b810-9dad-11d1-80b4-00c04fd430c8"));
+        final List<Object> second = new ArrayList<>(first);
+
+        // Act
+        final long firstHash = Hashing.hash(first);
+        final long secondHash = Hashing.hash(second);
+
+        // Assert
+        assertThat(firstHash).isEqualTo(secondHash);
+    }
+
+    @Test
+    void listsHashInOrder() {
+        // Act
+        final long first = Hashing.hash(List.of("A", "B"));
+        final long second = Hashing.hash(List.of("B", "A"));
+
+        // Assert
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void nullHasItsOwnHash() {
+        // Act
+        final long output = Hashing.hash(null);
+
+        // Assert
+        assertThat(output).isNotEqualTo(Hashing.hash(0L)).isNotEqualTo(Hashing.hash(0));
+    }
+
+    @Test
+    void equalBitsOfDifferentTypesHashDifferently() {
+        // Act
+        final Set<Long> output = Set.of(
+                Hashing.hash(5L),
+                Hashing.hash(5),
+                Hashing.hash((short) 5),
+                Hashing.hash((byte) 5),
+                Hashing.hash((char) 5),
+                Hashing.hash(Double.longBitsToDouble(5)),
+                Hashing.hash(Float.intBitsToFloat(5))
+        );
+
+        // Assert
+        assertThat(output).hasSize(7);
+    }
+
+    @Test
+    void stringsWithEqualHashCodesHashDifferently() {
+        // Act
+        final long first = Hashing.hash("Aa");
+        final long second = Hashing.hash("BB");
+
+        // Assert
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(first).isNotEqualTo(second);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Gatherer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntCircularBufferTest {
+
+    @Test
+    void add() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(3);
+
+        // Act
+        cb.add(1);
+        cb.add(2);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(1, 2);
+        assertThat(cb.size()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4, 5})
+    void addOverwritesFirst(final int capacity) {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(capacity);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            cb.add(i);
+        }
+
+        // Assert
+        assertThat(cb.size()).isEqualTo(capacity);
+        assertThat(cb.get(0)).isEqualTo(10 - capacity);
+        assertThat(cb.get(capacity - 1)).isEqualTo(9);
+    }
+
+    @Test
+    void addAll() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(5);
+        cb.add(1);
+        cb.add(2);
+
+        // Act
+        cb.addAll(new int[]{0, 3, 4, 5, 6, 0}, 1, 4);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void addAllLargerThanCapacity() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(3);
+        cb.add(1);
+
+        // Act
+        cb.addAll(new int[]{2, 3, 4, 5, 6}, 0, 5);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    void addAllOutOfBounds() {
+        assertThatThrownBy(() ->
+                new IntCircularBuffer(3).addAll(new int[]{1, 2}, 1, 2)
+        ).isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void drop() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(5);
+        cb.addAll(new int[]{1, 2, 3, 4}, 0, 4);
+
+        // Act
+        cb.drop(3);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(4);
+    }
+
+    @Test
+    void dropMoreThanSize() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(5);
+        cb.addAll(new int[]{1, 2, 3, 4}, 0, 4);
+
+        // Act
+        cb.drop(6);
+
+        // Assert
+        assertThat(cb.isEmpty()).isTrue();
+    }
+
+    @Test
+    void getOutOfBounds() {
+        assertThatThrownBy(() -> {
+            final IntCircularBuffer cb = new IntCircularBuffer(5);
+            cb.add(1);
+            cb.get(1);
+        }).isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void removeFirst() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(2);
+        cb.add(1);
+        cb.add(2);
+
+        // Act
+        final int removed = cb.removeFirst();
+
+        // Assert
+        assertThat(removed).isEqualTo(1);
+        assertThat(cb.toArray()).containsExactly(2);
+    }
+
+    @Test
+    void removeFirstWhenEmpty() {
+        assertThatThrownBy(() ->
+                new IntCircularBuffer(1).removeFirst()
+        ).isExactlyInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void removeFirstBlock() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(4);
+        cb.addAll(new int[]{1, 2, 3, 4, 5, 6}, 0, 6);
+
+        // Act
+        final int[] removed = cb.removeFirst(3);
+
+        // Assert
+        assertThat(removed).containsExactly(3, 4, 5);
+        assertThat(cb.toArray()).containsExactly(6);
+    }
+
+    @Test
+    void drainTo() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(5);
+        cb.addAll(new int[]{1, 2, 3, 4, 5}, 0, 5);
+        final List<int[]> output = new ArrayList<>();
+
+        // Act
+        final boolean accepting = cb.drainTo((Gatherer.Downstream<int[]>) output::add, 2);
+
+        // Assert
+        assertThat(accepting).isTrue();
+        assertThat(output).containsExactly(new int[]{1, 2}, new int[]{3, 4}, new int[]{5});
+        assertThat(cb.isEmpty()).isTrue();
+    }
+
+    @Test
+    void drainToStopsWhenRejecting() {
+        // Arrange
+        final IntCircularBuffer cb = new IntCircularBuffer(5);
+        cb.addAll(new int[]{1, 2, 3, 4, 5}, 0, 5);
+        final List<int[]> output = new ArrayList<>();
+
+        // Act
+        final boolean accepting = cb.drainTo((Gatherer.Downstream<int[]>) block -> {
+            output.add(block);
+            return false;
+        }, 2);
+
+        // Assert
+        assertThat(accepting).isFalse();
+        assertThat(output).containsExactly(new int[]{1, 2});
+        assertThat(cb.toArray()).containsExactly(3, 4, 5);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void capacityMustBePositive(final int capacity) {
+        assertThatThrownBy(() ->
+                new IntCircularBuffer(capacity)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
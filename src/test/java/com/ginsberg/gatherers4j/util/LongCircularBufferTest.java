@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongCircularBufferTest {
+
+    @Test
+    void addOverwritesFirst() {
+        // Arrange
+        final LongCircularBuffer cb = new LongCircularBuffer(2);
+
+        // Act
+        cb.add(1L);
+        cb.add(2L);
+        cb.add(3L);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void addAll() {
+        // Arrange
+        final LongCircularBuffer cb = new LongCircularBuffer(3);
+        cb.add(1L);
+
+        // Act
+        cb.addAll(new long[]{2L, 3L, 4L}, 1, 2);
+
+        // Assert
+        assertThat(cb.toArray()).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void removeFirst() {
+        // Arrange
+        final LongCircularBuffer cb = new LongCircularBuffer(3);
+        cb.add(1L);
+        cb.add(2L);
+
+        // Act
+        final long removed = cb.removeFirst();
+
+        // Assert
+        assertThat(removed).isEqualTo(1L);
+        assertThat(cb.get(0)).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+
+    @Test
+    void addReportsNewValues() {
+        // Arrange
+        final LongHashSet set = new LongHashSet();
+
+        // Act
+        final boolean first = set.add(42);
+        final boolean second = set.add(42);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroIsAValue() {
+        // Arrange
+        final LongHashSet set = new LongHashSet();
+
+        // Act
+        final boolean first = set.add(0);
+        final boolean second = set.add(0);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void growsAndKeepsValues() {
+        // Arrange
+        final LongHashSet set = new LongHashSet();
+
+        // Act
+        for (long i = -50_000; i < 50_000; i++) {
+            set.add(i << 20);
+        }
+
+        // Assert
+        assertThat(set.size()).isEqualTo(100_000);
+        for (long i = -50_000; i < 50_000; i++) {
+            assertThat(set.contains(i << 20)).isTrue();
+            assertThat(set.contains((i << 20) + 1)).isFalse();
+        }
+    }
+
+    @Test
+    void emptySet() {
+        // Act
+        final LongHashSet set = new LongHashSet();
+
+        // Assert
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(1)).isFalse();
+    }
+}
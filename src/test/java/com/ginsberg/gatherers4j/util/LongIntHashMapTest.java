@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTest {
+
+    @Test
+    void getMissing() {
+        // Arrange
+        final LongIntHashMap map = new LongIntHashMap();
+
+        // Act
+        final int value = map.get(42, -1);
+
+        // Assert
+        assertThat(value).isEqualTo(-1);
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void putReplaces() {
+        // Arrange
+        final LongIntHashMap map = new LongIntHashMap();
+
+        // Act
+        map.put(42, 1);
+        map.put(42, 2);
+
+        // Assert
+        assertThat(map.get(42, -1)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroIsAKey() {
+        // Arrange
+        final LongIntHashMap map = new LongIntHashMap();
+
+        // Act
+        map.put(0, 7);
+        map.put(0, 8);
+
+        // Assert
+        assertThat(map.get(0, -1)).isEqualTo(8);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void growsAndKeepsEntries() {
+        // Arrange
+        final LongIntHashMap map = new LongIntHashMap();
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i * 1_000_003L, i);
+        }
+
+        // Assert
+        assertThat(map.size()).isEqualTo(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(map.get(i * 1_000_003L, -1)).isEqualTo(i);
+        }
+        assertThat(map.get(1, -1)).isEqualTo(-1);
+    }
+}
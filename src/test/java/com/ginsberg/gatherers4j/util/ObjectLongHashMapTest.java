@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectLongHashMapTest {
+
+    @Test
+    void getMissing() {
+        // Arrange
+        final ObjectLongHashMap<String> map = new ObjectLongHashMap<>();
+
+        // Act
+        final long value = map.get("A", -1);
+
+        // Assert
+        assertThat(value).isEqualTo(-1);
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void addAccumulates() {
+        // Arrange
+        final ObjectLongHashMap<String> map = new ObjectLongHashMap<>();
+
+        // Act
+        map.add("A", 1);
+        final long result = map.add("A", 2);
+
+        // Assert
+        assertThat(result).isEqualTo(3);
+        assertThat(map.get("A", -1)).isEqualTo(3);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void nullIsAKey() {
+        // Arrange
+        final ObjectLongHashMap<String> map = new ObjectLongHashMap<>();
+
+        // Act
+        map.add(null, 7);
+        map.add(null, 1);
+
+        // Assert
+        assertThat(map.get(null, -1)).isEqualTo(8);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void growsAndKeepsEntries() {
+        // Arrange
+        final ObjectLongHashMap<Integer> map = new ObjectLongHashMap<>();
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            map.add(i, i);
+        }
+
+        // Assert
+        assertThat(map.size()).isEqualTo(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(map.get(i, -1)).isEqualTo(i);
+        }
+        assertThat(map.get(-1, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void forEachVisitsEveryEntry() {
+        // Arrange
+        final ObjectLongHashMap<String> map = new ObjectLongHashMap<>();
+        map.add("A", 1);
+        map.add("B", 2);
+        map.add(null, 3);
+        final Map<String, Long> seen = new HashMap<>();
+
+        // Act
+        map.forEach(seen::put);
+
+        // Assert
+        assertThat(seen)
+                .hasSize(3)
+                .containsEntry("A", 1L)
+                .containsEntry("B", 2L)
+                .containsEntry(null, 3L);
+    }
+}
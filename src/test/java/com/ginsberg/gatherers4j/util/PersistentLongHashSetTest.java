@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PersistentLongHashSetTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void addReportsNewValues() {
+        try (final PersistentLongHashSet set = new PersistentLongHashSet(directory.resolve("set"))) {
+            // Act
+            final boolean first = set.add(42);
+            final boolean second = set.add(42);
+
+            // Assert
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void zeroIsAValue() {
+        try (final PersistentLongHashSet set = new PersistentLongHashSet(directory.resolve("set"))) {
+            // Act
+            final boolean first = set.add(0);
+            final boolean second = set.add(0);
+
+            // Assert
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(set.contains(0)).isTrue();
+        }
+    }
+
+    @Test
+    void survivesReopening() {
+        // Arrange
+        final Path path = directory.resolve("set");
+        try (final PersistentLongHashSet set = new PersistentLongHashSet(path)) {
+            for (long i = 0; i < 200_000; i++) {
+                set.add(i * 7);
+            }
+        }
+
+        // Act
+        try (final PersistentLongHashSet set = new PersistentLongHashSet(path)) {
+
+            // Assert
+            assertThat(set.size()).isEqualTo(200_000);
+            for (long i = 0; i < 200_000; i++) {
+                assertThat(set.contains(i * 7)).isTrue();
+                assertThat(set.contains(i * 7 + 1)).isFalse();
+            }
+            assertThat(set.add(7)).isFalse();
+            assertThat(set.add(8)).isTrue();
+        }
+    }
+
+    @Test
+    void fileIsLockedWhileOpen() {
+        // Arrange
+        final Path path = directory.resolve("set");
+        try (final PersistentLongHashSet ignored = new PersistentLongHashSet(path)) {
+
+            // Act/Assert
+            assertThatThrownBy(() -> new PersistentLongHashSet(path))
+                    .isExactlyInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        // Arrange
+        final Path path = directory.resolve("other");
+        Files.writeString(path, "This is not a set");
+
+        // Act/Assert
+        assertThatThrownBy(() -> new PersistentLongHashSet(path))
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(Files.readString(path)).isEqualTo("This is not a set");
+    }
+
+    @Test
+    void closeIsIdempotent() {
+        // Arrange
+        final PersistentLongHashSet set = new PersistentLongHashSet(directory.resolve("set"));
+
+        // Act
+        set.close();
+        set.close();
+
+        // Assert
+        assertThat(set.size()).isZero();
+    }
+}
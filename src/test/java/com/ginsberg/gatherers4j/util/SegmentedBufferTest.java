@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentedBufferTest {
+
+    // Large enough to span several full segments
+    private static final int MANY = 10_000;
+
+    @Test
+    void emptyBuffer() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+
+        // Act/Assert
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer).isEmpty();
+        assertThat(buffer.descendingIterator()).isExhausted();
+    }
+
+    @Test
+    void addAndGetAcrossSegments() {
+        // Arrange
+        final SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>();
+
+        // Act
+        IntStream.range(0, MANY).forEach(buffer::add);
+
+        // Assert
+        assertThat(buffer.size()).isEqualTo(MANY);
+        for (int i = 0; i < MANY; i++) {
+            assertThat(buffer.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void holdsNulls() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+
+        // Act
+        buffer.add(null);
+        buffer.add("A");
+
+        // Assert
+        assertThat(buffer).containsExactly(null, "A");
+    }
+
+    @Test
+    void iteratesInOrder() {
+        // Arrange
+        final SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>();
+        IntStream.range(0, MANY).forEach(buffer::add);
+
+        // Act
+        final List<Integer> output = new ArrayList<>();
+        buffer.forEach(output::add);
+
+        // Assert
+        assertThat(output).isEqualTo(IntStream.range(0, MANY).boxed().toList());
+    }
+
+    @Test
+    void iteratesInReverse() {
+        // Arrange
+        final SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>();
+        IntStream.range(0, MANY).forEach(buffer::add);
+
+        // Act
+        final List<Integer> output = new ArrayList<>();
+        buffer.descendingIterator().forEachRemaining(output::add);
+
+        // Assert
+        assertThat(output).isEqualTo(IntStream.range(0, MANY).map(it -> MANY - 1 - it).boxed().toList());
+    }
+
+    @Test
+    void setReturnsPrevious() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+        buffer.add("A");
+        buffer.add("B");
+
+        // Act
+        final String previous = buffer.set(1, "C");
+
+        // Assert
+        assertThat(previous).isEqualTo("B");
+        assertThat(buffer).containsExactly("A", "C");
+    }
+
+    @Test
+    void removeLastAcrossSegments() {
+        // Arrange
+        final SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>();
+        IntStream.range(0, MANY).forEach(buffer::add);
+
+        // Act
+        final List<Integer> output = new ArrayList<>();
+        while (!buffer.isEmpty()) {
+            output.add(buffer.removeLast());
+        }
+
+        // Assert
+        assertThat(output).isEqualTo(IntStream.range(0, MANY).map(it -> MANY - 1 - it).boxed().toList());
+    }
+
+    @Test
+    void canAddAfterRemovingEverything() {
+        // Arrange
+        final SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>();
+        IntStream.range(0, MANY).forEach(buffer::add);
+        while (!buffer.isEmpty()) {
+            buffer.removeLast();
+        }
+
+        // Act
+        IntStream.range(0, MANY).forEach(buffer::add);
+
+        // Assert
+        assertThat(buffer.size()).isEqualTo(MANY);
+        assertThat(buffer.get(MANY - 1)).isEqualTo(MANY - 1);
+    }
+
+    @Test
+    void swapRemoveMovesLastIntoPlace() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+        List.of("A", "B", "C", "D").forEach(buffer::add);
+
+        // Act
+        final String removed = buffer.swapRemove(1);
+
+        // Assert
+        assertThat(removed).isEqualTo("B");
+        assertThat(buffer).containsExactly("A", "D", "C");
+    }
+
+    @Test
+    void swapRemoveLast() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+        List.of("A", "B").forEach(buffer::add);
+
+        // Act
+        final String removed = buffer.swapRemove(1);
+
+        // Assert
+        assertThat(removed).isEqualTo("B");
+        assertThat(buffer).containsExactly("A");
+    }
+
+    @Test
+    void clear() {
+        // Arrange
+        final SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>();
+        IntStream.range(0, MANY).forEach(buffer::add);
+
+        // Act
+        buffer.clear();
+
+        // Assert
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer).isEmpty();
+    }
+
+    @Test
+    void getOutOfBounds() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+        buffer.add("A");
+
+        // Act/Assert
+        assertThatThrownBy(() -> buffer.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> buffer.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void removeLastWhenEmpty() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+
+        // Act/Assert
+        assertThatThrownBy(buffer::removeLast).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iteratorPastEnd() {
+        // Arrange
+        final SegmentedBuffer<String> buffer = new SegmentedBuffer<>();
+
+        // Act/Assert
+        assertThatThrownBy(() -> buffer.iterator().next()).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> buffer.descendingIterator().next()).isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static com.ginsberg.gatherers4j.util.TestUtils.STRING_SERIALIZER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpillingBufferTest {
+
+    private static final List<String> INPUT = IntStream.range(0, 5_000).mapToObj(String::valueOf).toList();
+
+    @Test
+    void staysInMemoryUnderBudget() {
+        // Arrange
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(1024, STRING_SERIALIZER)) {
+
+            // Act
+            List.of("A", "B", "C").forEach(buffer::add);
+
+            // Assert
+            assertThat(buffer.hasSpilled()).isFalse();
+            assertThat(buffer).containsExactly("A", "B", "C");
+        }
+    }
+
+    @Test
+    void spillsOverBudget() {
+        // Arrange
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(100, STRING_SERIALIZER)) {
+
+            // Act
+            INPUT.forEach(buffer::add);
+
+            // Assert
+            assertThat(buffer.hasSpilled()).isTrue();
+            assertThat(buffer.size()).isEqualTo(INPUT.size());
+            assertThat(buffer).containsExactlyElementsOf(INPUT);
+        }
+    }
+
+    @Test
+    void descendingIterator() {
+        // Arrange
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(100, STRING_SERIALIZER)) {
+            INPUT.forEach(buffer::add);
+
+            // Act
+            final List<String> output = new ArrayList<>();
+            buffer.descendingIterator().forEachRemaining(output::add);
+
+            // Assert
+            assertThat(output).isEqualTo(INPUT.reversed());
+        }
+    }
+
+    @Test
+    void iterateRange() {
+        // Arrange
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(100, STRING_SERIALIZER)) {
+            INPUT.forEach(buffer::add);
+
+            // Act
+            final List<String> output = new ArrayList<>();
+            buffer.iterator(1234, 4321).forEachRemaining(output::add);
+
+            // Assert
+            assertThat(output).isEqualTo(INPUT.subList(1234, 4321));
+        }
+    }
+
+    @Test
+    void canBeReadMoreThanOnce() {
+        // Arrange
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(100, STRING_SERIALIZER)) {
+            INPUT.forEach(buffer::add);
+
+            // Act
+            final List<String> first = new ArrayList<>();
+            final List<String> second = new ArrayList<>();
+            buffer.forEach(first::add);
+            buffer.forEach(second::add);
+
+            // Assert
+            assertThat(first).isEqualTo(INPUT);
+            assertThat(second).isEqualTo(INPUT);
+        }
+    }
+
+    @Test
+    void elementsLargerThanBudget() {
+        // Arrange
+        final List<String> input = List.of("A", "B".repeat(500), "C", "D".repeat(1000));
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(16, STRING_SERIALIZER)) {
+
+            // Act
+            input.forEach(buffer::add);
+
+            // Assert
+            assertThat(buffer).containsExactlyElementsOf(input);
+            final List<String> reversed = new ArrayList<>();
+            buffer.descendingIterator().forEachRemaining(reversed::add);
+            assertThat(reversed).isEqualTo(input.reversed());
+        }
+    }
+
+    @Test
+    void iteratorPastEnd() {
+        // Arrange
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(100, STRING_SERIALIZER)) {
+
+            // Act/Assert
+            assertThatThrownBy(() -> buffer.iterator().next()).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> buffer.descendingIterator().next()).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void rangeOutOfBounds() {
+        // Arrange
+        try (final SpillingBuffer<String> buffer = new SpillingBuffer<>(100, STRING_SERIALIZER)) {
+            buffer.add("A");
+
+            // Act/Assert
+            assertThatThrownBy(() -> buffer.iterator(0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void memoryBudgetMustBePositive() {
+        assertThatThrownBy(() ->
+                new SpillingBuffer<>(0, STRING_SERIALIZER)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void serializerMustNotBeNull() {
+        assertThatThrownBy(() ->
+                new SpillingBuffer<String>(100, null)
+        ).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -16,9 +16,11 @@
 
 package com.ginsberg.gatherers4j.util;
 
+import com.ginsberg.gatherers4j.Serializer;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 public class TestUtils {
 
@@ -26,4 +28,9 @@ public class TestUtils {
             .builder()
             .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
             .build();
+
+    public static final Serializer<String> STRING_SERIALIZER = Serializer.of(
+            it -> it.getBytes(StandardCharsets.UTF_8),
+            it -> StandardCharsets.UTF_8.decode(it).toString()
+    );
 }
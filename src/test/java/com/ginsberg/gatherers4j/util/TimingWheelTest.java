@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircularBufferTest {
+
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    static class Task extends TimingWheel.Timer {
+        final String name;
+
+        Task(final String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void expiresInDeadlineOrder() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(0);
+        final List<String> expired = new ArrayList<>();
+        wheel.schedule(new Task("C"), 70_000);
+        wheel.schedule(new Task("A"), 5);
+        wheel.schedule(new Task("B"), 300);
+
+        // Act
+        wheel.advanceTo(100_000, task -> expired.add(task.name));
+
+        // Assert
+        assertThat(expired).containsExactly("A", "B", "C");
+        assertThat(wheel.isEmpty()).isTrue();
+        assertThat(wheel.currentTime()).isEqualTo(100_000);
+    }
+
+    @Test
+    void onlyExpiresThroughTime() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(0);
+        final List<String> expired = new ArrayList<>();
+        wheel.schedule(new Task("A"), 10);
+        wheel.schedule(new Task("B"), 11);
+
+        // Act
+        wheel.advanceTo(10, task -> expired.add(task.name));
+
+        // Assert
+        assertThat(expired).containsExactly("A");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextAdvance() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(100);
+        final List<Long> expired = new ArrayList<>();
+        wheel.schedule(new Task("A"), 50);
+
+        // Act
+        wheel.advanceTo(101, task -> expired.add(task.deadline()));
+
+        // Assert
+        assertThat(expired).containsExactly(101L);
+    }
+
+    @Test
+    void rescheduleFromCallback() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(0);
+        final List<Long> expired = new ArrayList<>();
+        wheel.schedule(new Task("A"), 10);
+
+        // Act
+        wheel.advanceTo(1_000, task -> {
+            expired.add(task.deadline());
+            if (task.deadline() < 500) {
+                wheel.schedule(task, task.deadline() * 2);
+            }
+        });
+
+        // Assert
+        assertThat(expired).containsExactly(10L, 20L, 40L, 80L, 160L, 320L, 640L);
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void crossesFromNegativeToPositive() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(-1_000_000);
+        final List<String> expired = new ArrayList<>();
+        wheel.schedule(new Task("B"), 5);
+        wheel.schedule(new Task("A"), -5);
+        wheel.schedule(new Task("C"), 1_000_000);
+
+        // Act
+        wheel.advanceTo(1_000_000, task -> expired.add(task.name));
+
+        // Assert
+        assertThat(expired).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    void largeJumps() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(0);
+        final List<String> expired = new ArrayList<>();
+        wheel.schedule(new Task("B"), Long.MAX_VALUE);
+        wheel.schedule(new Task("A"), Long.MAX_VALUE / 2);
+
+        // Act
+        wheel.advanceTo(Long.MAX_VALUE, task -> expired.add(task.name));
+
+        // Assert
+        assertThat(expired).containsExactly("A", "B");
+    }
+
+    @Test
+    void cancelledTimersDoNotExpire() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(0);
+        final List<String> expired = new ArrayList<>();
+        final Task a = new Task("A");
+        final Task b = new Task("B");
+        final Task c = new Task("C");
+        wheel.schedule(a, 10);
+        wheel.schedule(b, 10);
+        wheel.schedule(c, 70_000);
+
+        // Act
+        final boolean cancelledB = wheel.cancel(b);
+        final boolean cancelledC = wheel.cancel(c);
+        final boolean cancelledAgain = wheel.cancel(c);
+        wheel.advanceTo(100_000, task -> expired.add(task.name));
+
+        // Assert
+        assertThat(cancelledB).isTrue();
+        assertThat(cancelledC).isTrue();
+        assertThat(cancelledAgain).isFalse();
+        assertThat(expired).containsExactly("A");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void rescheduleMovesDeadline() {
+        // Arrange
+        final TimingWheel<Task> wheel = new TimingWheel<>(0);
+        final List<Long> expired = new ArrayList<>();
+        final Task a = new Task("A");
+        wheel.schedule(a, 10);
+
+        // Act
+        wheel.reschedule(a, 5_000);
+        wheel.advanceTo(100_000, task -> expired.add(wheel.currentTime()));
+
+        // Assert
+        assertThat(expired).containsExactly(5_000L);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Todd Ginsberg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ginsberg.gatherers4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WindowedFrequenciesTest {
+
+    @Test
+    void modeOfEmptyWindowThrows() {
+        // Arrange
+        final WindowedFrequencies<String> frequencies = new WindowedFrequencies<>(2);
+
+        // Act/Assert
+        assertThatThrownBy(frequencies::mode).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void oldestValueLeavesWindow() {
+        // Arrange
+        final WindowedFrequencies<String> frequencies = new WindowedFrequencies<>(3);
+
+        // Act
+        List.of("A", "A", "B", "B", "C").forEach(frequencies::add);
+
+        // Assert
+        assertThat(frequencies.size()).isEqualTo(3);
+        assertThat(frequencies.isFull()).isTrue();
+        assertThat(frequencies.mode()).isEqualTo("B");
+        assertThat(frequencies.modeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void mostFrequentInCountOrder() {
+        // Arrange
+        final WindowedFrequencies<String> frequencies = new WindowedFrequencies<>(10);
+        List.of("A", "B", "B", "C", "C", "C", "D").forEach(frequencies::add);
+        final List<String> seen = new ArrayList<>();
+
+        // Act
+        frequencies.forEachMostFrequent(3, (value, count) -> seen.add(value + count));
+
+        // Assert
+        assertThat(seen).containsExactly("C3", "B2", "A1");
+    }
+
+    @Test
+    void countsStayConstantWhenWindowRepeats() {
+        // Arrange
+        final WindowedFrequencies<Integer> frequencies = new WindowedFrequencies<>(100);
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            frequencies.add(i % 4);
+        }
+
+        // Assert
+        final List<Long> counts = new ArrayList<>();
+        frequencies.forEachMostFrequent(10, (_, count) -> counts.add(count));
+        assertThat(counts).containsExactly(25L, 25L, 25L, 25L);
+    }
+
+    @Test
+    void windowSizeMustBePositive() {
+        assertThatThrownBy(() -> new WindowedFrequencies<String>(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}